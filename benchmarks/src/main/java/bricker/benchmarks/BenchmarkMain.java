@@ -0,0 +1,43 @@
+package bricker.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Runs the bricker JMH suite and writes the results as JSON, one timestamped file per run, so runs can be
+ * compared over time. Any standard JMH command-line option (such as a benchmark filter) can be passed.
+ */
+public class BenchmarkMain {
+    private static final String RESULTS_DIRECTORY = "results";
+
+    /**
+     * The entry point of the benchmark suite.
+     *
+     * @param args JMH command-line options.
+     * @throws CommandLineOptionException If the options are malformed.
+     * @throws RunnerException            If a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new File(RESULTS_DIRECTORY).mkdirs();
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLineOptions)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULTS_DIRECTORY + "/jmh-" + timestamp + ".json");
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkMain.class.getPackage().getName() + ".*");
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
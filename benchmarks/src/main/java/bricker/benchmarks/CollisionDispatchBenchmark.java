@@ -0,0 +1,114 @@
+package bricker.benchmarks;
+
+import bricker.brick_strategies.*;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.PerkPuddle;
+import bricker.main.CommandBuffer;
+import bricker.main.GameObjectRegistry;
+import bricker.main.PuckLifecycleManager;
+import bricker.simulation.HeadlessInputListener;
+import bricker.simulation.HeadlessRunner;
+import bricker.util.ObjectPool;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a brick hit dispatched through each CollisionStrategy.
+ * The same brick is hit over and over: after the first hit it is no longer in the collection, so the
+ * strategy's removal is a miss, and pucks spawned by the pucks strategy are recycled straight away.
+ * Each hit is followed by the end-of-frame flush of the command buffer the strategies go through.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CollisionDispatchBenchmark {
+    private static final Vector2 BRICK_SIZE = new Vector2(85, 15);
+    private static final Vector2 BALL_SIZE = new Vector2(20, 20);
+    private static final Vector2 PADDLE_SIZE = new Vector2(100, 15);
+
+    @Param({"basic", "pucks", "perk", "camera", "strike", "dual"})
+    private String strategy;
+
+    private Brick brick;
+    private Ball ball;
+    private CollisionStrategy collisionStrategy;
+    private CommandBuffer commandBuffer;
+    private PuckLifecycleManager puckLifecycleManager;
+
+    /**
+     * Builds the brick with the configured strategy.
+     */
+    @Setup
+    public void setUp() {
+        HeadlessRunner runner = new HeadlessRunner(0, 0);
+        GameObjectCollection gameObjects = runner.getGameManager().gameObjects();
+        GameObjectRegistry registry = new GameObjectRegistry(gameObjects);
+        this.commandBuffer = new CommandBuffer(registry);
+        HeadlessInputListener inputListener = runner.getInputListener();
+        Counter perkPaddleState = new Counter(0);
+        ObjectPool<Ball> puckPool = new ObjectPool<>(() -> new Ball(Vector2.ZERO, BALL_SIZE, null, null),
+                puck -> puck.setCenter(Vector2.ZERO), 16);
+        ObjectPool<PerkPuddle> perkPuddlePool = new ObjectPool<>(
+                () -> new PerkPuddle(Vector2.ZERO, PADDLE_SIZE, null, inputListener, 700, perkPaddleState),
+                paddle -> paddle.setCenter(Vector2.ZERO), 1);
+        // Every puck is below the bound, so update() recycles all of them
+        this.puckLifecycleManager = new PuckLifecycleManager(this.commandBuffer, puckPool, Float.NEGATIVE_INFINITY);
+        this.ball = new Ball(Vector2.ZERO, BALL_SIZE, null, null);
+        switch (this.strategy) {
+            case "pucks":
+                this.collisionStrategy = new NewPucksCollisionStrategy(this.commandBuffer,
+                        this.puckLifecycleManager);
+                break;
+            case "perk":
+                this.collisionStrategy = new PerkPuddleCollisionStrategy(this.commandBuffer, perkPuddlePool,
+                        perkPaddleState);
+                break;
+            case "camera":
+                this.collisionStrategy = new ChangeCameraCollisionStrategy(this.commandBuffer, new Counter(0),
+                        this.ball);
+                break;
+            case "strike":
+                this.collisionStrategy = new AddStrikeCollisionStrategy(this.commandBuffer);
+                break;
+            case "dual":
+                this.collisionStrategy = new DualBehaviorCollisionStrategy(this.commandBuffer);
+                break;
+            default:
+                this.collisionStrategy = new BasicCollisionStrategy(this.commandBuffer);
+                break;
+        }
+        this.brick = new Brick(Vector2.ZERO, BRICK_SIZE, null, this.collisionStrategy, new Counter(0));
+    }
+
+    /**
+     * Hits the brick once. The strategy is called directly, since the brick itself only counts its first hit.
+     *
+     * @return The brick, so the hit cannot be optimized away.
+     */
+    @Benchmark
+    public Brick hit() {
+        this.collisionStrategy.onCollision(this.brick, this.ball);
+        this.commandBuffer.flush();
+        this.puckLifecycleManager.update();
+        this.commandBuffer.flush();
+        return this.brick;
+    }
+}
@@ -0,0 +1,77 @@
+package bricker.benchmarks;
+
+import bricker.gameobjects.StrikesGraphic;
+import bricker.gameobjects.StrikesNumeric;
+import bricker.simulation.HeadlessRunner;
+import bricker.util.ObservableCounter;
+import danogl.collisions.GameObjectCollection;
+import danogl.gui.rendering.TextRenderable;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the strikes HUD: a frame where nothing changed, and a strike lost and regained.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HudUpdateBenchmark {
+    private static final float FRAME_DELTA = 1f / 60;
+    private static final int STRIKES = 3;
+    private static final Vector2 SCREEN = new Vector2(700, 500);
+
+    private ObservableCounter strikes;
+    private StrikesGraphic strikesGraphic;
+    private StrikesNumeric strikesNumeric;
+
+    /**
+     * Builds both strikes displays over a fresh strikes counter.
+     */
+    @Setup
+    public void setUp() {
+        GameObjectCollection gameObjects = new HeadlessRunner(0, 0).getGameManager().gameObjects();
+        this.strikes = new ObservableCounter(STRIKES);
+        this.strikesGraphic = new StrikesGraphic(new Vector2(60, 20), SCREEN, new Vector2(20, 20), null,
+                gameObjects, this.strikes);
+        this.strikesNumeric = new StrikesNumeric(new Vector2(10, 400), new Vector2(20, 20),
+                new TextRenderable("Strikes left: 3"), gameObjects, this.strikes);
+    }
+
+    /**
+     * Updates both displays on a frame where the strikes didn't change.
+     *
+     * @return The strikes counter, so the work cannot be optimized away.
+     */
+    @Benchmark
+    public ObservableCounter idleFrame() {
+        this.strikesGraphic.update(FRAME_DELTA);
+        this.strikesNumeric.update(FRAME_DELTA);
+        return this.strikes;
+    }
+
+    /**
+     * Loses a strike and gets it back, so both displays react to two changes.
+     *
+     * @return The strikes counter, so the work cannot be optimized away.
+     */
+    @Benchmark
+    public ObservableCounter strikeLostAndRegained() {
+        this.strikes.decrement();
+        this.strikes.increment();
+        return this.strikes;
+    }
+}
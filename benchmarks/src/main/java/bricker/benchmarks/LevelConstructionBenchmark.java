@@ -0,0 +1,54 @@
+package bricker.benchmarks;
+
+import bricker.simulation.HeadlessRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a level: addBricks and the collision strategy choice for every cell, plus the few fixed
+ * objects initializeGame adds around them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LevelConstructionBenchmark {
+    @Param({"7x8", "100x100", "1000x100"})
+    private String wall;
+
+    private int bricksInRow;
+    private int rowsOfBricks;
+
+    /**
+     * Parses the wall dimensions.
+     */
+    @Setup
+    public void setUp() {
+        String[] dimensions = this.wall.split("x");
+        this.bricksInRow = Integer.parseInt(dimensions[0]);
+        this.rowsOfBricks = Integer.parseInt(dimensions[1]);
+    }
+
+    /**
+     * Builds a headless game with the configured wall.
+     *
+     * @return The built game, so it cannot be optimized away.
+     */
+    @Benchmark
+    public HeadlessRunner buildLevel() {
+        return new HeadlessRunner(this.bricksInRow, this.rowsOfBricks);
+    }
+}
@@ -0,0 +1,81 @@
+package bricker.benchmarks;
+
+import bricker.brick_strategies.StrategyType;
+import bricker.levels.Level;
+import bricker.levels.LevelGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a level file and reading the strategy of every cell, without building the game objects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LevelLoadBenchmark {
+    @Param({"100x100", "1000x1000"})
+    private String wall;
+
+    private Path levelFile;
+
+    /**
+     * Writes a level file with the configured wall.
+     *
+     * @throws IOException If the file can't be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        String[] dimensions = this.wall.split("x");
+        this.levelFile = Files.createTempFile("bricker-level", ".lvl");
+        LevelGenerator.generate(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 0,
+                StrategyType.defaultWeights()).save(this.levelFile);
+    }
+
+    /**
+     * Deletes the level file.
+     *
+     * @throws IOException If the file can't be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.levelFile);
+    }
+
+    /**
+     * Loads the level and counts its special bricks.
+     *
+     * @return The number of bricks that aren't basic, so the reads cannot be optimized away.
+     * @throws IOException If the file can't be read.
+     */
+    @Benchmark
+    public int loadLevel() throws IOException {
+        Level level = Level.load(this.levelFile);
+        int special = 0;
+        for (int i = 0; i < level.rows(); i++) {
+            for (int j = 0; j < level.columns(); j++) {
+                if (level.hasBrick(i, j) && level.strategyAt(i, j) != StrategyType.BASIC) {
+                    special++;
+                }
+            }
+        }
+        return special;
+    }
+}
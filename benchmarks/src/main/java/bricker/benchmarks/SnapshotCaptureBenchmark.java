@@ -0,0 +1,79 @@
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.simulation.HeadlessRunner;
+import bricker.snapshots.SnapshotRing;
+import bricker.snapshots.StateVector;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures taking the delta-encoded snapshot of a frame of the default wall with a given number of balls in
+ * play: flattening the game state and encoding it against the previous frame into a ring. The game is a ball
+ * storm, so it never ends, and the frame itself is simulated outside the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SnapshotCaptureBenchmark {
+    private static final float FRAME_DELTA = 1f / 60;
+    private static final int BRICKS_IN_ROW = 7;
+    private static final int ROWS_OF_BRICKS = 8;
+    private static final int SNAPSHOT_FRAMES = 600;
+    private static final int SNAPSHOT_BYTES = 16 << 20;
+
+    @Param({"1", "10", "100", "1000"})
+    private int balls;
+
+    private BrickerGameManager gameManager;
+    private final SnapshotRing snapshots = new SnapshotRing(SNAPSHOT_FRAMES, SNAPSHOT_BYTES);
+    private final StateVector state = new StateVector();
+
+    /**
+     * Builds the game with the configured number of balls in play.
+     */
+    @Setup
+    public void setUp() {
+        HeadlessRunner runner = new HeadlessRunner(new Vector2(700, 500), BRICKS_IN_ROW, ROWS_OF_BRICKS, 42);
+        this.gameManager = runner.getGameManager();
+        this.gameManager.setBallStorm(true);
+        this.gameManager.spawnPucks(this.balls - 1);
+    }
+
+    /**
+     * Simulates the frame to be captured, keeping the configured number of balls in play.
+     */
+    @Setup(Level.Invocation)
+    public void nextFrame() {
+        this.gameManager.spawnPucks(this.balls - this.gameManager.getLiveBallCount());
+        this.gameManager.update(FRAME_DELTA);
+    }
+
+    /**
+     * Takes a snapshot of the frame.
+     *
+     * @return The ring, so the snapshot cannot be optimized away.
+     */
+    @Benchmark
+    public SnapshotRing capture() {
+        this.gameManager.writeState(this.state);
+        this.snapshots.capture(this.state);
+        return this.snapshots;
+    }
+}
@@ -0,0 +1,104 @@
+package bricker.benchmarks;
+
+import bricker.brick_strategies.CollisionStrategies;
+import bricker.brick_strategies.StrategyType;
+import bricker.gameobjects.BrickField;
+import bricker.gameobjects.StaticLayer;
+import danogl.gui.rendering.ImageRenderable;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures drawing the static layer of a dense wall into a window-sized image: a frame drawn from the cache,
+ * a frame where one brick broke, and a frame where the whole layer is redrawn, as it was before caching.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StaticLayerBenchmark {
+    private static final Vector2 SCREEN = new Vector2(700, 500);
+    private static final int BRICKS_IN_ROW = 170;
+    private static final int ROWS_OF_BRICKS = 120;
+
+    @Param({"cached", "brickBroken", "fullRedraw"})
+    private String frame;
+
+    private StaticLayer staticLayer;
+    private BrickField brickField;
+    private Graphics2D screen;
+    private int nextCell;
+
+    /**
+     * Builds a 170x120 wall of 4x4 bricks and draws it once.
+     */
+    @Setup
+    public void setUp() {
+        BufferedImage brickImage = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D brickGraphics = brickImage.createGraphics();
+        brickGraphics.setColor(Color.ORANGE);
+        brickGraphics.fillRect(0, 0, 4, 4);
+        brickGraphics.dispose();
+        CollisionStrategies strategies = new CollisionStrategies(type -> (thisObj, otherObj) -> { });
+        this.brickField = new BrickField(new Vector2(10, 10), new Vector2(4, 4), BRICKS_IN_ROW, ROWS_OF_BRICKS,
+                new ImageRenderable(brickImage), strategies, new Counter(0));
+        for (int i = 0; i < ROWS_OF_BRICKS; i++) {
+            for (int j = 0; j < BRICKS_IN_ROW; j++) {
+                this.brickField.add(i, j, StrategyType.BASIC);
+            }
+        }
+        this.staticLayer = new StaticLayer(SCREEN);
+        this.staticLayer.setBrickField(this.brickField);
+        this.screen = new BufferedImage((int) SCREEN.x(), (int) SCREEN.y(), BufferedImage.TYPE_INT_ARGB)
+                .createGraphics();
+        this.staticLayer.render(this.screen, null);
+    }
+
+    /**
+     * Releases the window-sized image.
+     */
+    @TearDown
+    public void tearDown() {
+        this.screen.dispose();
+    }
+
+    /**
+     * Renders one frame of the static layer.
+     *
+     * @return The number of pixels redrawn into the cache, so the work cannot be optimized away.
+     */
+    @Benchmark
+    public int renderFrame() {
+        if (this.frame.equals("brickBroken")) {
+            this.brickField.hit(this.nextCell, null);
+            this.nextCell = (this.nextCell + 1) % (BRICKS_IN_ROW * ROWS_OF_BRICKS);
+            if (this.nextCell == 0) {
+                setUp();
+            }
+        } else if (this.frame.equals("fullRedraw")) {
+            this.staticLayer.invalidate(new Rectangle(0, 0, (int) SCREEN.x(), (int) SCREEN.y()));
+        }
+        this.staticLayer.render(this.screen, null);
+        return this.staticLayer.getRedrawnPixels();
+    }
+}
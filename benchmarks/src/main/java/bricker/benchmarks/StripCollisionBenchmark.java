@@ -0,0 +1,118 @@
+package bricker.benchmarks;
+
+import bricker.brick_strategies.CollisionStrategies;
+import bricker.brick_strategies.StrategyType;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.BrickField;
+import bricker.main.StripCollisionResolver;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures colliding a storm of balls with a dense wall of bricks on 1 to 8 threads, to show how the
+ * strip-parallel collision resolution scales with the number of cores. One thread is the plain loop the game
+ * runs without a resolver. The wall is rebuilt before every collision pass, outside the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StripCollisionBenchmark {
+    private static final int BRICKS_IN_ROW = 400;
+    private static final int ROWS_OF_BRICKS = 200;
+    private static final Vector2 BRICK_SIZE = new Vector2(10, 5);
+    private static final Vector2 BALL_SIZE = new Vector2(15, 15);
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    @Param({"1000", "10000"})
+    private int balls;
+
+    private BrickField brickField;
+    private final List<Ball> ballList = new ArrayList<>();
+    private StripCollisionResolver resolver;
+
+    /**
+     * Scatters the balls over a 400x200 wall of 10x5 bricks, with reproducible random positions and velocities.
+     */
+    @Setup
+    public void setUp() {
+        CollisionStrategies strategies = new CollisionStrategies(type -> (thisObj, otherObj) -> { });
+        this.brickField = new BrickField(Vector2.ZERO, BRICK_SIZE, BRICKS_IN_ROW, ROWS_OF_BRICKS, null, strategies,
+                new Counter(0));
+        Random random = new Random(42);
+        for (int i = 0; i < this.balls; i++) {
+            Vector2 topLeft = new Vector2(random.nextFloat() * BRICKS_IN_ROW * BRICK_SIZE.x(),
+                    random.nextFloat() * ROWS_OF_BRICKS * BRICK_SIZE.y());
+            Ball ball = new Ball(topLeft, BALL_SIZE, null, null);
+            double angle = random.nextDouble() * 2 * Math.PI;
+            ball.setVelocity(new Vector2((float) Math.cos(angle), (float) Math.sin(angle)).mult(300));
+            this.ballList.add(ball);
+        }
+        if (this.threads > 1) {
+            this.resolver = new StripCollisionResolver(this.threads);
+        }
+    }
+
+    /**
+     * Puts back every brick the previous pass broke.
+     */
+    @Setup(Level.Invocation)
+    public void rebuildWall() {
+        for (int i = 0; i < ROWS_OF_BRICKS; i++) {
+            for (int j = 0; j < BRICKS_IN_ROW; j++) {
+                if (!this.brickField.isAlive(i, j)) {
+                    this.brickField.add(i, j, StrategyType.BASIC);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the resolver's threads.
+     */
+    @TearDown
+    public void tearDown() {
+        if (this.resolver != null) {
+            this.resolver.shutdown();
+        }
+    }
+
+    /**
+     * Collides every ball with the wall once.
+     *
+     * @return The wall, so the pass cannot be optimized away.
+     */
+    @Benchmark
+    public BrickField resolve() {
+        if (this.resolver == null) {
+            for (Ball ball : this.ballList) {
+                this.brickField.resolveCollisions(ball);
+            }
+        } else {
+            this.resolver.resolve(this.brickField, this.ballList);
+        }
+        return this.brickField;
+    }
+}
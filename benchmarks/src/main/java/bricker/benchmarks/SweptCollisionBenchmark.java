@@ -0,0 +1,112 @@
+package bricker.benchmarks;
+
+import bricker.collisions.SweepHit;
+import bricker.collisions.SweptCollision;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost per ball of the swept collision test against the discrete overlap test it replaces.
+ * Every ball is tested against the same number of candidate bricks, as the brick grid would hand it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SweptCollisionBenchmark {
+    private static final int BALLS = 10_000;
+    private static final int CANDIDATES = 6;
+    private static final float BALL_SIZE = 20;
+    private static final float BRICK_WIDTH = 85;
+    private static final float BRICK_HEIGHT = 15;
+    private static final float STEP = 1f / 120;
+
+    private final float[] centersX = new float[BALLS];
+    private final float[] centersY = new float[BALLS];
+    private final float[] deltasX = new float[BALLS];
+    private final float[] deltasY = new float[BALLS];
+    private final float[] bricksX = new float[CANDIDATES];
+    private final float[] bricksY = new float[CANDIDATES];
+    private final SweepHit hit = new SweepHit();
+
+    /**
+     * Scatters reproducible random balls around a patch of bricks.
+     */
+    @Setup
+    public void setUp() {
+        Random rand = new Random(42);
+        for (int i = 0; i < CANDIDATES; i++) {
+            this.bricksX[i] = (i % 3) * BRICK_WIDTH;
+            this.bricksY[i] = (i / 3) * BRICK_HEIGHT;
+        }
+        for (int i = 0; i < BALLS; i++) {
+            double angle = rand.nextDouble() * 2 * Math.PI;
+            float speed = 300 + rand.nextFloat() * 3000;
+            this.centersX[i] = rand.nextFloat() * 3 * BRICK_WIDTH;
+            this.centersY[i] = rand.nextFloat() * 6 * BRICK_HEIGHT - 2 * BRICK_HEIGHT;
+            this.deltasX[i] = (float) Math.cos(angle) * speed * STEP;
+            this.deltasY[i] = (float) Math.sin(angle) * speed * STEP;
+        }
+    }
+
+    /**
+     * Tests every ball's position after the step for overlap with the candidate bricks.
+     *
+     * @return The number of contacts found, so the work cannot be optimized away.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BALLS)
+    public int discrete() {
+        int contacts = 0;
+        float half = BALL_SIZE / 2;
+        for (int i = 0; i < BALLS; i++) {
+            float minX = this.centersX[i] + this.deltasX[i] - half;
+            float minY = this.centersY[i] + this.deltasY[i] - half;
+            for (int j = 0; j < CANDIDATES; j++) {
+                if (minX < this.bricksX[j] + BRICK_WIDTH && this.bricksX[j] < minX + BALL_SIZE
+                        && minY < this.bricksY[j] + BRICK_HEIGHT && this.bricksY[j] < minY + BALL_SIZE) {
+                    contacts++;
+                }
+            }
+        }
+        return contacts;
+    }
+
+    /**
+     * Sweeps every ball along its step against the candidate bricks.
+     *
+     * @return The number of contacts found, so the work cannot be optimized away.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BALLS)
+    public int swept() {
+        int contacts = 0;
+        float radius = BALL_SIZE / 2;
+        for (int i = 0; i < BALLS; i++) {
+            this.hit.reset();
+            for (int j = 0; j < CANDIDATES; j++) {
+                SweptCollision.sweepCircle(this.centersX[i], this.centersY[i], radius, this.deltasX[i],
+                        this.deltasY[i], this.bricksX[j], this.bricksY[j], this.bricksX[j] + BRICK_WIDTH,
+                        this.bricksY[j] + BRICK_HEIGHT, null, this.hit);
+            }
+            if (this.hit.time() <= 1) {
+                contacts++;
+            }
+        }
+        return contacts;
+    }
+}
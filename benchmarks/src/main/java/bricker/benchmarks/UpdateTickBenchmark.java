@@ -0,0 +1,71 @@
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.simulation.HeadlessRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one headless update() tick of the default wall with a given number of balls in play.
+ * Pucks that fell out of play are topped up, and a finished game is rebuilt, outside the measured tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UpdateTickBenchmark {
+    private static final float FRAME_DELTA = 1f / 60;
+    private static final int BRICKS_IN_ROW = 7;
+    private static final int ROWS_OF_BRICKS = 8;
+
+    @Param({"1", "10", "100", "1000"})
+    private int balls;
+
+    private HeadlessRunner runner;
+
+    /**
+     * Builds a fresh game for every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void newGame() {
+        this.runner = new HeadlessRunner(BRICKS_IN_ROW, ROWS_OF_BRICKS);
+    }
+
+    /**
+     * Keeps the game running with the configured number of balls in play.
+     */
+    @Setup(Level.Invocation)
+    public void topUpBalls() {
+        if (this.runner.isGameOver()) {
+            newGame();
+        }
+        BrickerGameManager gameManager = this.runner.getGameManager();
+        gameManager.spawnPucks(this.balls - gameManager.getLiveBallCount());
+    }
+
+    /**
+     * Runs a single frame.
+     *
+     * @return The game, so the tick cannot be optimized away.
+     */
+    @Benchmark
+    public BrickerGameManager tick() {
+        BrickerGameManager gameManager = this.runner.getGameManager();
+        gameManager.update(FRAME_DELTA);
+        return gameManager;
+    }
+}
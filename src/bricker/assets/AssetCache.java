@@ -0,0 +1,124 @@
+package bricker.assets;
+
+import danogl.gui.ImageReader;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
+
+import java.awt.Image;
+import java.io.File;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches decoded images and sounds by path, so every asset is read from disk only once.
+ * The cache is safe to share between games running on different threads.
+ * Assets are keyed by path only: the first reader to request a path reads it, and every later request for
+ * that path gets the same asset whichever reader it passes. A reader that returns no sound is remembered as
+ * such, so the path isn't read again.
+ */
+public class AssetCache {
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final Map<String, Renderable> images = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Sound>> sounds = new ConcurrentHashMap<>(); // Empty if none was read
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesHeld = new AtomicLong();
+
+    /**
+     * Returns the image at the given path, reading it on the first request only.
+     *
+     * @param imageReader                 The image reader used on a cache miss.
+     * @param imageFilePath               The path of the image.
+     * @param useTransparencyAsBackground Whether the image uses transparency as background.
+     * @return The image.
+     */
+    public Renderable readImage(ImageReader imageReader, String imageFilePath, boolean useTransparencyAsBackground) {
+        String key = imageFilePath + (useTransparencyAsBackground ? "#transparent" : "");
+        Renderable image = this.images.get(key);
+        if (image != null) {
+            this.hits.incrementAndGet();
+            return image;
+        }
+        return this.images.computeIfAbsent(key, k -> {
+            this.misses.incrementAndGet();
+            Renderable read = imageReader.readImage(imageFilePath, useTransparencyAsBackground);
+            this.bytesHeld.addAndGet(imageSize(read));
+            return read;
+        });
+    }
+
+    /**
+     * Returns the sound at the given path, reading it on the first request only.
+     *
+     * @param soundReader   The sound reader used on a cache miss.
+     * @param soundFilePath The path of the sound.
+     * @return The sound. Can be null if the sound reader returned none.
+     */
+    public Sound readSound(SoundReader soundReader, String soundFilePath) {
+        Optional<Sound> sound = this.sounds.get(soundFilePath);
+        if (sound != null) {
+            this.hits.incrementAndGet();
+            return sound.orElse(null);
+        }
+        return this.sounds.computeIfAbsent(soundFilePath, k -> {
+            this.misses.incrementAndGet();
+            Sound read = soundReader.readSound(soundFilePath);
+            if (read != null) {
+                this.bytesHeld.addAndGet(new File(soundFilePath).length());
+            }
+            return Optional.ofNullable(read);
+        }).orElse(null);
+    }
+
+    /**
+     * Returns the number of requests answered from the cache.
+     *
+     * @return The number of hits.
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Returns the number of requests that had to read from disk.
+     *
+     * @return The number of misses.
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Returns an estimate of the memory held by the cached assets: raw pixel data for images and the
+     * file size for sounds.
+     *
+     * @return The estimated number of bytes held.
+     */
+    public long bytesHeld() {
+        return this.bytesHeld.get();
+    }
+
+    /**
+     * Returns a one-line summary of the cache statistics.
+     *
+     * @return The summary.
+     */
+    @Override
+    public String toString() {
+        return String.format("AssetCache[images=%d sounds=%d hits=%d misses=%d bytesHeld=%d]",
+                this.images.size(), this.sounds.size(), hits(), misses(), bytesHeld());
+    }
+
+    private static long imageSize(Renderable renderable) {
+        if (!(renderable instanceof ImageRenderable)) {
+            return 0;
+        }
+        Image image = ((ImageRenderable) renderable).getImage();
+        return (long) image.getWidth(null) * image.getHeight(null) * BYTES_PER_PIXEL;
+    }
+}
@@ -0,0 +1,166 @@
+package bricker.audio;
+
+import danogl.gui.Sound;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays sounds on a dedicated thread, so the game thread never waits on the audio system.
+ * The game thread only marks a {@link SoundEffect} as requested; at the end of the frame every requested sound is
+ * handed over once through a lock-free queue. The mixer thread then plays it if the sound wasn't played too
+ * recently and one of a fixed number of voices is free, and drops it otherwise.
+ */
+public class AudioMixer {
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final int voices;
+    private final long voiceNanos;
+    private final long minIntervalNanos;
+    private final Map<Sound, SoundEffect> effects = new IdentityHashMap<>();
+    private final List<SoundEffect> staged = new ArrayList<>();
+    private final PlayQueue queue = new PlayQueue(QUEUE_CAPACITY);
+    private volatile Sound[] sounds = new Sound[0];
+    private volatile Thread thread;
+    private long coalescedPlays;
+    private volatile long playedSounds;
+    private volatile long rateLimitedSounds;
+    private volatile long voiceStarvedSounds;
+    private volatile long queueOverflows;
+
+    /**
+     * Constructs a new AudioMixer instance. Its thread is started when the first sound is registered.
+     *
+     * @param voices        The maximum number of sounds playing at once.
+     * @param voiceMillis   How long a voice stays busy after it starts a sound, in milliseconds.
+     * @param minIntervalMs The minimum time between two plays of the same sound, in milliseconds.
+     */
+    public AudioMixer(int voices, int voiceMillis, int minIntervalMs) {
+        this.voices = voices;
+        this.voiceNanos = TimeUnit.MILLISECONDS.toNanos(voiceMillis);
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMs);
+    }
+
+    /**
+     * Registers a sound with the mixer. Registering the same sound again returns the same effect.
+     *
+     * @param sound The sound, or null.
+     * @return The effect to play the sound through, or null if the sound is null.
+     */
+    public SoundEffect register(Sound sound) {
+        if (sound == null) {
+            return null;
+        }
+        SoundEffect effect = this.effects.get(sound);
+        if (effect != null) {
+            return effect;
+        }
+        Sound[] registered = Arrays.copyOf(this.sounds, this.sounds.length + 1);
+        registered[registered.length - 1] = sound;
+        this.sounds = registered;
+        effect = new SoundEffect(this, registered.length - 1);
+        this.effects.put(sound, effect);
+        if (this.thread == null) {
+            Thread mixerThread = new Thread(this::mix, "bricker-audio");
+            mixerThread.setDaemon(true);
+            this.thread = mixerThread;
+            mixerThread.start();
+        }
+        return effect;
+    }
+
+    /**
+     * Hands every sound requested during the frame to the mixer thread. Called by the game at the end of
+     * every frame.
+     */
+    public void endFrame() {
+        if (this.staged.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < this.staged.size(); i++) {
+            SoundEffect effect = this.staged.get(i);
+            effect.clearPending();
+            if (!this.queue.offer(effect.id())) {
+                this.queueOverflows++;
+            }
+        }
+        this.staged.clear();
+        LockSupport.unpark(this.thread);
+    }
+
+    void stage(SoundEffect effect) {
+        this.staged.add(effect);
+    }
+
+    void coalesced() {
+        this.coalescedPlays++;
+    }
+
+    private void mix() {
+        long[] lastPlayed = new long[0];
+        boolean[] requested = new boolean[0];
+        long[] voiceBusyUntil = new long[this.voices];
+        Arrays.fill(voiceBusyUntil, System.nanoTime());
+        while (true) {
+            int id = this.queue.poll();
+            if (id < 0) {
+                LockSupport.park(this);
+                continue;
+            }
+            Sound[] registered = this.sounds;
+            if (requested.length < registered.length) {
+                requested = Arrays.copyOf(requested, registered.length);
+                long[] grown = new long[registered.length];
+                Arrays.fill(grown, Long.MIN_VALUE);
+                System.arraycopy(lastPlayed, 0, grown, 0, lastPlayed.length);
+                lastPlayed = grown;
+            }
+            // Everything queued by now is played together, so frames that queued faster than this thread
+            // drained them are merged as well
+            for (; id >= 0; id = this.queue.poll()) {
+                requested[id] = true;
+            }
+            long now = System.nanoTime();
+            for (int i = 0; i < requested.length; i++) {
+                if (!requested[i]) {
+                    continue;
+                }
+                requested[i] = false;
+                if (lastPlayed[i] != Long.MIN_VALUE && now - lastPlayed[i] < this.minIntervalNanos) {
+                    this.rateLimitedSounds++;
+                    continue;
+                }
+                int voice = freeVoice(voiceBusyUntil, now);
+                if (voice < 0) {
+                    this.voiceStarvedSounds++;
+                    continue;
+                }
+                voiceBusyUntil[voice] = now + this.voiceNanos;
+                lastPlayed[i] = now;
+                registered[i].play();
+                this.playedSounds++;
+            }
+        }
+    }
+
+    private static int freeVoice(long[] voiceBusyUntil, long now) {
+        for (int i = 0; i < voiceBusyUntil.length; i++) {
+            if (voiceBusyUntil[i] - now <= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("audio: played=%d coalesced=%d rateLimited=%d voiceStarved=%d overflows=%d",
+                this.playedSounds, this.coalescedPlays, this.rateLimitedSounds, this.voiceStarvedSounds,
+                this.queueOverflows);
+    }
+}
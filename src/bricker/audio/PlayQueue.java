@@ -0,0 +1,71 @@
+package bricker.audio;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free queue of sound ids with any number of producers and a single consumer.
+ * Every slot carries a sequence number that tells producers and the consumer whose turn it is, so neither side
+ * ever blocks or allocates.
+ */
+class PlayQueue {
+    private final int[] ids;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final int mask;
+    private long head; // Only touched by the consumer
+
+    /**
+     * Constructs a new, empty PlayQueue instance.
+     *
+     * @param capacity The maximum number of queued ids. Rounded up to a power of two.
+     */
+    PlayQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.ids = new int[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an id to the queue.
+     *
+     * @param id The id, not negative.
+     * @return False if the queue was full and the id was dropped.
+     */
+    boolean offer(int id) {
+        while (true) {
+            long position = this.tail.get();
+            int slot = (int) (position & this.mask);
+            long sequence = this.sequences.get(slot);
+            if (sequence == position) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.ids[slot] = id;
+                    this.sequences.lazySet(slot, position + 1);
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest id from the queue. Must only be called from the consumer thread.
+     *
+     * @return The id, or -1 if the queue is empty.
+     */
+    int poll() {
+        int slot = (int) (this.head & this.mask);
+        if (this.sequences.get(slot) != this.head + 1) {
+            return -1;
+        }
+        int id = this.ids[slot];
+        this.sequences.lazySet(slot, this.head + this.ids.length);
+        this.head++;
+        return id;
+    }
+}
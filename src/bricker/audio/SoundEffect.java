@@ -0,0 +1,37 @@
+package bricker.audio;
+
+/**
+ * A sound registered with an {@link AudioMixer}, played through the mixer instead of directly.
+ * Plays requested during a frame are merged into one, and handed to the mixer's thread when the frame ends.
+ * Must only be played from the game thread.
+ */
+public class SoundEffect {
+    private final AudioMixer mixer;
+    private final int id;
+    private boolean pending;
+
+    SoundEffect(AudioMixer mixer, int id) {
+        this.mixer = mixer;
+        this.id = id;
+    }
+
+    /**
+     * Requests the sound to be played at the end of the current frame.
+     */
+    public void play() {
+        if (this.pending) {
+            this.mixer.coalesced();
+            return;
+        }
+        this.pending = true;
+        this.mixer.stage(this);
+    }
+
+    int id() {
+        return this.id;
+    }
+
+    void clearPending() {
+        this.pending = false;
+    }
+}
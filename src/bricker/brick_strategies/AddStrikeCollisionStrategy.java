@@ -1,17 +1,18 @@
 package bricker.brick_strategies;
 
+import bricker.main.CommandBuffer;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
 //TODO - dont forget documentation this class
 public class AddStrikeCollisionStrategy implements CollisionStrategy{
-    private GameObjectCollection gameObjectCollection;
-    public AddStrikeCollisionStrategy(GameObjectCollection gameObjectCollection) {
-        this.gameObjectCollection = gameObjectCollection;
+    private CommandBuffer commandBuffer;
+    public AddStrikeCollisionStrategy(CommandBuffer commandBuffer) {
+        this.commandBuffer = commandBuffer;
     }
 
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
-        gameObjectCollection.removeGameObject(thisObj);
+        this.commandBuffer.removeGameObject(thisObj, Layer.STATIC_OBJECTS);
 
     }
 }
@@ -2,23 +2,24 @@ package bricker.brick_strategies;
 
 import bricker.gameobjects.Ball;
 import bricker.main.BrickerGameManager;
+import bricker.main.CommandBuffer;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
 
 /**
  * Represents a basic collision strategy for handling collisions between game objects.
  * This strategy removes the collided object from the game object collection.
  */
 public class BasicCollisionStrategy implements CollisionStrategy {
-    private GameObjectCollection gameObjectCollection;
+    private CommandBuffer commandBuffer;
 
     /**
      * Constructs a new BasicCollisionStrategy instance.
      *
-     * @param gameObjectCollection The collection of game objects.
+     * @param commandBuffer The buffer game objects are added and removed through at the end of the frame.
      */
-    public BasicCollisionStrategy(GameObjectCollection gameObjectCollection) {
-        this.gameObjectCollection = gameObjectCollection;
+    public BasicCollisionStrategy(CommandBuffer commandBuffer) {
+        this.commandBuffer = commandBuffer;
     }
     /**
      * Handles a collision between two game objects by removing the collided object from the game object collection.
@@ -27,6 +28,6 @@ public class BasicCollisionStrategy implements CollisionStrategy {
      * @param otherObj The other game object involved in the collision.
      */
     public void onCollision(GameObject thisObj, GameObject otherObj) {
-        this.gameObjectCollection.removeGameObject(thisObj);
+        this.commandBuffer.removeGameObject(thisObj, Layer.STATIC_OBJECTS);
     }
 }
@@ -1,8 +1,9 @@
 package bricker.brick_strategies;
 
 import bricker.gameobjects.PerkPuddle;
+import bricker.main.CommandBuffer;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
 import danogl.util.Counter;
 
 /**
@@ -12,20 +13,20 @@ import danogl.util.Counter;
  */
 public class ChangeCameraCollisionStrategy implements CollisionStrategy{
     private static final int OFF = 0;
-    private GameObjectCollection gameObjectCollection;
+    private CommandBuffer commandBuffer;
     private  Counter cameraSwitch;
     private  GameObject triggeringObject;
 
     /**
      * Constructs a ChangeCameraCollisionStrategy with the given parameters.
      *
-     * @param gameObjectCollection The collection of game objects.
-     * @param cameraSwitch         The counter for camera switches.
-     * @param triggeringObject     The object that triggers the camera switch upon collision.
+     * @param commandBuffer    The buffer game objects are added and removed through at the end of the frame.
+     * @param cameraSwitch     The counter for camera switches.
+     * @param triggeringObject The object that triggers the camera switch upon collision.
      */
-    public ChangeCameraCollisionStrategy(GameObjectCollection gameObjectCollection, Counter cameraSwitch,
+    public ChangeCameraCollisionStrategy(CommandBuffer commandBuffer, Counter cameraSwitch,
                                          GameObject triggeringObject) {
-        this.gameObjectCollection = gameObjectCollection;
+        this.commandBuffer = commandBuffer;
         this.cameraSwitch = cameraSwitch;
         this.triggeringObject=triggeringObject;
 
@@ -42,7 +43,7 @@ public class ChangeCameraCollisionStrategy implements CollisionStrategy{
         if(otherObj.equals(triggeringObject) && this.cameraSwitch.value()==OFF)  {
             this.cameraSwitch.increment(); //switch cameraSwitch to ON
         }
-        this.gameObjectCollection.removeGameObject(thisObj);
+        this.commandBuffer.removeGameObject(thisObj, Layer.STATIC_OBJECTS);
     }
 }
 
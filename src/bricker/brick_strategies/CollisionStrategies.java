@@ -0,0 +1,49 @@
+package bricker.brick_strategies;
+
+import java.util.function.Function;
+
+/**
+ * The shared collision strategy of every strategy type.
+ * Strategies hold only references that are the same for every brick of a game, so a single flyweight per type
+ * serves the whole wall; anything that differs between bricks is kept by the wall itself, indexed by cell.
+ * Each strategy is created the first time a brick of its type needs it.
+ */
+public class CollisionStrategies {
+    private final CollisionStrategy[] strategies = new CollisionStrategy[StrategyType.values().length];
+    private final Function<StrategyType, CollisionStrategy> factory;
+    private int createdCount;
+
+    /**
+     * Constructs a new CollisionStrategies instance.
+     *
+     * @param factory Creates the strategy of a type.
+     */
+    public CollisionStrategies(Function<StrategyType, CollisionStrategy> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the strategy of a type, creating it if this is the first time it is needed.
+     *
+     * @param type The strategy type.
+     * @return The shared strategy of the type.
+     */
+    public CollisionStrategy get(StrategyType type) {
+        CollisionStrategy strategy = this.strategies[type.code()];
+        if (strategy == null) {
+            strategy = this.factory.apply(type);
+            this.strategies[type.code()] = strategy;
+            this.createdCount++;
+        }
+        return strategy;
+    }
+
+    /**
+     * Returns how many strategy objects were created.
+     *
+     * @return The number of strategies created, at most one per type.
+     */
+    public int createdCount() {
+        return this.createdCount;
+    }
+}
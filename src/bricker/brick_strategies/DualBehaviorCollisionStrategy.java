@@ -1,18 +1,19 @@
 package bricker.brick_strategies;
 
+import bricker.main.CommandBuffer;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
 
 //TODO - dont forget documentation this class
 public class DualBehaviorCollisionStrategy implements CollisionStrategy {
-    private GameObjectCollection gameObjectCollection;
-    public DualBehaviorCollisionStrategy(GameObjectCollection gameObjectCollection) {
-        this.gameObjectCollection = gameObjectCollection;
+    private CommandBuffer commandBuffer;
+    public DualBehaviorCollisionStrategy(CommandBuffer commandBuffer) {
+        this.commandBuffer = commandBuffer;
     }
 
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
-        this.gameObjectCollection.removeGameObject(thisObj);
+        this.commandBuffer.removeGameObject(thisObj, Layer.STATIC_OBJECTS);
     }
 }
 
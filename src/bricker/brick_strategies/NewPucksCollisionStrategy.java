@@ -1,42 +1,42 @@
 package bricker.brick_strategies;
 
-import bricker.gameobjects.Ball;
+import bricker.main.CommandBuffer;
+import bricker.main.PuckLifecycleManager;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
 
 /**
- * Represents a collision strategy for handling collisions between two pucks in the game.
- * This strategy adds both pucks back to the game object collection and removes the collided object.
+ * Represents a collision strategy that releases two new pucks into the game.
+ * The pucks are spawned only when the collision happens, and the collided object is removed.
  */
 public class NewPucksCollisionStrategy implements CollisionStrategy{
-    private GameObjectCollection gameObjectCollection;
-    private Ball puck1;
-    private Ball puck2;
+    private static final int PUCKS_PER_COLLISION = 2;
+    private CommandBuffer commandBuffer;
+    private PuckLifecycleManager puckLifecycleManager;
 
     /**
      * Constructs a new NewPucksCollisionStrategy instance.
      *
-     * @param gameObjectCollection The collection of game objects.
-     * @param puck1                The first puck involved in the collision.
-     * @param puck2                The second puck involved in the collision.
+     * @param commandBuffer        The buffer game objects are added and removed through at the end of the frame.
+     * @param puckLifecycleManager The manager that spawns the pucks and tracks them while in play.
      */
-    public NewPucksCollisionStrategy(GameObjectCollection gameObjectCollection, Ball puck1, Ball puck2){
-        this.gameObjectCollection = gameObjectCollection;
-        this.puck1 = puck1;
-        this.puck2 = puck2;
+    public NewPucksCollisionStrategy(CommandBuffer commandBuffer,
+                                     PuckLifecycleManager puckLifecycleManager){
+        this.commandBuffer = commandBuffer;
+        this.puckLifecycleManager = puckLifecycleManager;
     }
 
     /**
-     * Handles a collision between two game objects by adding both pucks back to the game object collection
-     * and removing the collided object.
+     * Handles a collision between two game objects by spawning two pucks and removing the collided object.
      *
      * @param thisObj  The game object on which the collision occurs.
      * @param otherObj The other game object involved in the collision.
      */
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
-        this.gameObjectCollection.addGameObject(this.puck1);
-        this.gameObjectCollection.addGameObject(this.puck2);
-        this.gameObjectCollection.removeGameObject(thisObj);
+        for (int i = 0; i < PUCKS_PER_COLLISION; i++) {
+            this.puckLifecycleManager.spawn();
+        }
+        this.commandBuffer.removeGameObject(thisObj, Layer.STATIC_OBJECTS);
     }
 }
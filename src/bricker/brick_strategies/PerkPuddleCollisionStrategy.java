@@ -1,31 +1,34 @@
 package bricker.brick_strategies;
 
 import bricker.gameobjects.PerkPuddle;
+import bricker.main.CommandBuffer;
+import bricker.util.ObjectPool;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
 import danogl.util.Counter;
 
 /**
  * Represents a collision strategy for handling collisions involving a PerkPuddle in the game.
- * This strategy adds the PerkPuddle to the game object collection if no perk paddle exists,
+ * This strategy takes a PerkPuddle from a pool and adds it to the game object collection if no perk paddle exists,
  * informs the BrickerGameManager about the creation of the perk paddle, and removes the collided object.
  */
 public class PerkPuddleCollisionStrategy implements CollisionStrategy{
     private static final int NO_PERK_PUDDLE = 0;
-    private GameObjectCollection gameObjectCollection;
-    private PerkPuddle perkPuddle;
+    private CommandBuffer commandBuffer;
+    private ObjectPool<PerkPuddle> perkPuddlePool;
     private Counter perkPaddleState;
 
     /**
      * Constructs a new PerkPuddleCollisionStrategy instance.
      *
-     * @param gameObjectCollection The collection of game objects.
-     * @param perkPuddle           The PerkPuddle object involved in the collision.
-     * @param perkPaddleState      The counter representing the state of the perk paddle.
+     * @param commandBuffer      The buffer game objects are added and removed through at the end of the frame.
+     * @param perkPuddlePool     The pool the PerkPuddle is taken from.
+     * @param perkPaddleState    The counter representing the state of the perk paddle.
      */
-    public PerkPuddleCollisionStrategy(GameObjectCollection gameObjectCollection, PerkPuddle perkPuddle, Counter perkPaddleState) {
-        this.gameObjectCollection = gameObjectCollection;
-        this.perkPuddle = perkPuddle;
+    public PerkPuddleCollisionStrategy(CommandBuffer commandBuffer, ObjectPool<PerkPuddle> perkPuddlePool,
+                                       Counter perkPaddleState) {
+        this.commandBuffer = commandBuffer;
+        this.perkPuddlePool = perkPuddlePool;
         this.perkPaddleState = perkPaddleState;
     }
 
@@ -40,10 +43,10 @@ public class PerkPuddleCollisionStrategy implements CollisionStrategy{
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
         if(perkPaddleState.value() == NO_PERK_PUDDLE){
-            this.gameObjectCollection.addGameObject(this.perkPuddle);
-            this.perkPuddle.paddleCreated(); // informs the BrickerGameManager a perk paddle was created.
-            this.gameObjectCollection.removeGameObject(thisObj);
+            PerkPuddle perkPuddle = this.perkPuddlePool.acquire();
+            this.commandBuffer.addGameObject(perkPuddle);
+            perkPuddle.paddleCreated(); // informs the BrickerGameManager a perk paddle was created.
         }
-        this.gameObjectCollection.removeGameObject(thisObj);
+        this.commandBuffer.removeGameObject(thisObj, Layer.STATIC_OBJECTS);
     }
 }
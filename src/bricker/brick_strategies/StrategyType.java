@@ -0,0 +1,93 @@
+package bricker.brick_strategies;
+
+import java.util.Random;
+
+/**
+ * The kinds of collision strategies a brick can have, each with a stable numeric code.
+ * The order of the constants is the order in which random strategy weights are laid out.
+ */
+public enum StrategyType {
+    /** Releases two pucks, see {@link NewPucksCollisionStrategy}. */
+    PUCKS(0),
+    /** Adds a perk paddle, see {@link PerkPuddleCollisionStrategy}. */
+    PERK_PADDLE(1),
+    /** Makes the camera follow the ball, see {@link ChangeCameraCollisionStrategy}. */
+    CAMERA(2),
+    /** See {@link AddStrikeCollisionStrategy}. */
+    ADD_STRIKE(3),
+    /** See {@link DualBehaviorCollisionStrategy}. */
+    DUAL(4),
+    /** Only breaks the brick, see {@link BasicCollisionStrategy}. */
+    BASIC(5);
+
+    // 10% each for the special strategies, 50% for the basic one
+    private static final double[] DEFAULT_WEIGHTS = {1, 1, 1, 1, 1, 5};
+    private static final StrategyType[] BY_CODE = new StrategyType[values().length];
+
+    static {
+        for (StrategyType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    StrategyType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the stable numeric code of the strategy type.
+     *
+     * @return The code.
+     */
+    public int code() {
+        return this.code;
+    }
+
+    /**
+     * Returns the strategy type with the given code.
+     *
+     * @param code The code.
+     * @return The strategy type.
+     * @throws IllegalArgumentException If no strategy type has the code.
+     */
+    public static StrategyType fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown strategy code " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Returns the weights the game chooses strategies by unless told otherwise.
+     *
+     * @return A new array of the default weights, in declaration order.
+     */
+    public static double[] defaultWeights() {
+        return DEFAULT_WEIGHTS.clone();
+    }
+
+    /**
+     * Chooses a strategy type at random, according to the given weights.
+     *
+     * @param random  The random generator. Exactly one number is drawn from it.
+     * @param weights The relative weight of every strategy type, in declaration order.
+     * @return The chosen strategy type.
+     */
+    public static StrategyType choose(Random random, double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double randomNumber = random.nextDouble() * total;
+        StrategyType[] types = values();
+        for (int i = 0; i < types.length - 1; i++) {
+            randomNumber -= weights[i];
+            if (randomNumber < 0) {
+                return types[i];
+            }
+        }
+        return types[types.length - 1];
+    }
+}
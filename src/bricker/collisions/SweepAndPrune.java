@@ -0,0 +1,146 @@
+package bricker.collisions;
+
+import java.util.Arrays;
+
+/**
+ * A sweep-and-prune broadphase on the x axis: finds the pairs of boxes that overlap, without testing every
+ * box against every other one.
+ * Boxes are sorted by their left edge, and each box is only tested against the boxes that start before its
+ * right edge. The sorted order is kept between calls, so boxes that moved a little since the last call are
+ * re-sorted in close to linear time.
+ */
+public class SweepAndPrune {
+    /**
+     * Receives the overlapping pairs found by {@link #findPairs(PairListener)}.
+     */
+    public interface PairListener {
+        /**
+         * Called for a pair of boxes whose bounds overlap.
+         *
+         * @param first  The id of one box.
+         * @param second The id of the other box.
+         */
+        void onPair(int first, int second);
+    }
+
+    private float[] minX;
+    private float[] minY;
+    private float[] maxX;
+    private float[] maxY;
+    private int[] order;
+    private int size;
+    private int orderedSize;
+    private int candidateCount;
+
+    /**
+     * Constructs a new, empty SweepAndPrune instance.
+     *
+     * @param capacity The number of boxes to allocate room for. The room grows as needed.
+     */
+    public SweepAndPrune(int capacity) {
+        this.minX = new float[capacity];
+        this.minY = new float[capacity];
+        this.maxX = new float[capacity];
+        this.maxY = new float[capacity];
+        this.order = new int[capacity];
+    }
+
+    /**
+     * Removes all boxes. The sorted order of their ids is kept for the boxes added next.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Adds a box. Boxes get consecutive ids from 0, in the order they are added after a {@link #clear()}.
+     *
+     * @param left   The left edge of the box.
+     * @param top    The top edge of the box.
+     * @param right  The right edge of the box.
+     * @param bottom The bottom edge of the box.
+     * @return The id of the box.
+     */
+    public int add(float left, float top, float right, float bottom) {
+        if (this.size == this.minX.length) {
+            int capacity = Math.max(16, this.size * 2);
+            this.minX = Arrays.copyOf(this.minX, capacity);
+            this.minY = Arrays.copyOf(this.minY, capacity);
+            this.maxX = Arrays.copyOf(this.maxX, capacity);
+            this.maxY = Arrays.copyOf(this.maxY, capacity);
+            this.order = Arrays.copyOf(this.order, capacity);
+        }
+        this.minX[this.size] = left;
+        this.minY[this.size] = top;
+        this.maxX[this.size] = right;
+        this.maxY[this.size] = bottom;
+        return this.size++;
+    }
+
+    /**
+     * Reports every pair of overlapping boxes to the listener, each pair once.
+     *
+     * @param listener The listener to report the pairs to.
+     * @return The number of pairs reported.
+     */
+    public int findPairs(PairListener listener) {
+        updateOrder();
+        int pairs = 0;
+        this.candidateCount = 0;
+        for (int i = 0; i < this.size; i++) {
+            int first = this.order[i];
+            float right = this.maxX[first];
+            for (int j = i + 1; j < this.size; j++) {
+                int second = this.order[j];
+                if (this.minX[second] > right) {
+                    break;
+                }
+                this.candidateCount++;
+                if (this.minY[first] <= this.maxY[second] && this.minY[second] <= this.maxY[first]) {
+                    listener.onPair(first, second);
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Returns how many pairs overlapped on the x axis in the last call to {@link #findPairs(PairListener)},
+     * and so had their y extents compared.
+     *
+     * @return The number of candidate pairs.
+     */
+    public int candidateCount() {
+        return this.candidateCount;
+    }
+
+    /**
+     * Makes the kept order a permutation of the current ids, then insertion-sorts it by left edge.
+     */
+    private void updateOrder() {
+        if (this.orderedSize > this.size) {
+            int kept = 0;
+            for (int i = 0; i < this.orderedSize; i++) {
+                if (this.order[i] < this.size) {
+                    this.order[kept++] = this.order[i];
+                }
+            }
+        } else {
+            for (int id = this.orderedSize; id < this.size; id++) {
+                this.order[id] = id;
+            }
+        }
+        this.orderedSize = this.size;
+        for (int i = 1; i < this.size; i++) {
+            int id = this.order[i];
+            float key = this.minX[id];
+            int j = i - 1;
+            while (j >= 0 && this.minX[this.order[j]] > key) {
+                this.order[j + 1] = this.order[j];
+                j--;
+            }
+            this.order[j + 1] = id;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package bricker.collisions;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * The earliest contact found while sweeping a ball along its displacement.
+ * A single instance is reused across sweeps: each candidate only replaces the hit if it happens earlier.
+ */
+public class SweepHit {
+    private float time;
+    private float normalX;
+    private float normalY;
+    private GameObject target;
+    private int part;
+
+    /**
+     * Constructs a new, empty SweepHit instance.
+     */
+    public SweepHit() {
+        reset();
+    }
+
+    /**
+     * Clears the hit before a new sweep.
+     */
+    public void reset() {
+        this.time = Float.POSITIVE_INFINITY;
+        this.target = null;
+        this.part = -1;
+    }
+
+    /**
+     * Records a contact if it happens earlier than the current one.
+     *
+     * @param time    The time of impact, as a fraction of the displacement.
+     * @param normalX The x component of the contact normal.
+     * @param normalY The y component of the contact normal.
+     * @param target  The game object hit.
+     * @return True if the contact was recorded.
+     */
+    public boolean offer(float time, float normalX, float normalY, GameObject target) {
+        return offer(time, normalX, normalY, target, -1);
+    }
+
+    /**
+     * Records a contact with a part of a game object if it happens earlier than the current one.
+     *
+     * @param time    The time of impact, as a fraction of the displacement.
+     * @param normalX The x component of the contact normal.
+     * @param normalY The y component of the contact normal.
+     * @param target  The game object hit.
+     * @param part    The index of the part of the game object hit, or -1 for the whole object.
+     * @return True if the contact was recorded.
+     */
+    public boolean offer(float time, float normalX, float normalY, GameObject target, int part) {
+        if (time >= this.time) {
+            return false;
+        }
+        this.time = time;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.target = target;
+        this.part = part;
+        return true;
+    }
+
+    /**
+     * Returns whether any contact was found.
+     *
+     * @return True if something was hit.
+     */
+    public boolean found() {
+        return this.target != null;
+    }
+
+    /**
+     * Returns the time of impact, as a fraction of the displacement between 0 and 1.
+     *
+     * @return The time of impact.
+     */
+    public float time() {
+        return this.time;
+    }
+
+    /**
+     * Returns the normal of the contact surface, pointing towards the ball.
+     *
+     * @return The contact normal.
+     */
+    public Vector2 normal() {
+        return new Vector2(this.normalX, this.normalY);
+    }
+
+    /**
+     * Returns the game object hit.
+     *
+     * @return The game object hit, or null if nothing was hit.
+     */
+    public GameObject target() {
+        return this.target;
+    }
+
+    /**
+     * Returns the index of the part of the game object hit, such as the cell of a brick field.
+     *
+     * @return The index of the part, or -1 if the whole object was hit.
+     */
+    public int part() {
+        return this.part;
+    }
+}
@@ -0,0 +1,150 @@
+package bricker.collisions;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * Continuous collision detection of a moving circle against axis-aligned boxes.
+ * The circle's path is tested against the box grown by the circle's radius, with rounded corners, so a
+ * fast ball hits a thin brick or wall even if it would jump past it between two frames.
+ */
+public class SweptCollision {
+
+    private SweptCollision() {
+    }
+
+    /**
+     * Sweeps a ball along a displacement against a game object's bounding box, and offers the contact to
+     * the hit if there is one.
+     *
+     * @param ball         The moving ball. Its bounding box is treated as a circle.
+     * @param displacement How far the ball moves during the sweep.
+     * @param target       The static object to sweep against.
+     * @param hit          The earliest hit so far.
+     * @return True if the target was hit before the current earliest hit.
+     */
+    public static boolean sweep(GameObject ball, Vector2 displacement, GameObject target, SweepHit hit) {
+        Vector2 center = ball.getCenter();
+        Vector2 topLeft = target.getTopLeftCorner();
+        Vector2 dimensions = target.getDimensions();
+        return sweepCircle(center.x(), center.y(), ball.getDimensions().x() / 2,
+                displacement.x(), displacement.y(), topLeft.x(), topLeft.y(),
+                topLeft.x() + dimensions.x(), topLeft.y() + dimensions.y(), target, hit);
+    }
+
+    /**
+     * Sweeps a circle along a displacement against a box, and offers the contact to the hit if there is one.
+     * A circle that already overlaps the box is not reported; that case is left to the discrete checks.
+     *
+     * @param centerX The x coordinate of the circle's center at the start of the sweep.
+     * @param centerY The y coordinate of the circle's center at the start of the sweep.
+     * @param radius  The radius of the circle.
+     * @param deltaX  The x component of the displacement.
+     * @param deltaY  The y component of the displacement.
+     * @param minX    The left edge of the box.
+     * @param minY    The top edge of the box.
+     * @param maxX    The right edge of the box.
+     * @param maxY    The bottom edge of the box.
+     * @param target  The object the box belongs to.
+     * @param hit     The earliest hit so far.
+     * @return True if the box was hit before the current earliest hit.
+     */
+    public static boolean sweepCircle(float centerX, float centerY, float radius, float deltaX, float deltaY,
+                                      float minX, float minY, float maxX, float maxY,
+                                      GameObject target, SweepHit hit) {
+        return sweepCircle(centerX, centerY, radius, deltaX, deltaY, minX, minY, maxX, maxY, target, -1, hit);
+    }
+
+    /**
+     * Sweeps a circle along a displacement against a box that is one part of a game object, and offers the
+     * contact to the hit if there is one.
+     *
+     * @param centerX The x coordinate of the circle's center at the start of the sweep.
+     * @param centerY The y coordinate of the circle's center at the start of the sweep.
+     * @param radius  The radius of the circle.
+     * @param deltaX  The x component of the displacement.
+     * @param deltaY  The y component of the displacement.
+     * @param minX    The left edge of the box.
+     * @param minY    The top edge of the box.
+     * @param maxX    The right edge of the box.
+     * @param maxY    The bottom edge of the box.
+     * @param target  The object the box belongs to.
+     * @param part    The index of the box within the object, or -1 if the box is the whole object.
+     * @param hit     The earliest hit so far.
+     * @return True if the box was hit before the current earliest hit.
+     */
+    public static boolean sweepCircle(float centerX, float centerY, float radius, float deltaX, float deltaY,
+                                      float minX, float minY, float maxX, float maxY,
+                                      GameObject target, int part, SweepHit hit) {
+        // Cheap reject: the box doesn't touch the bounds of the whole path
+        if (Math.min(centerX, centerX + deltaX) - radius >= maxX || Math.max(centerX, centerX + deltaX) + radius <= minX
+                || Math.min(centerY, centerY + deltaY) - radius >= maxY
+                || Math.max(centerY, centerY + deltaY) + radius <= minY) {
+            return false;
+        }
+        // Slab test of the center's path against the box grown by the radius
+        float enterX;
+        float exitX;
+        if (deltaX == 0) {
+            if (centerX <= minX - radius || centerX >= maxX + radius) {
+                return false;
+            }
+            enterX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        } else {
+            float t1 = (minX - radius - centerX) / deltaX;
+            float t2 = (maxX + radius - centerX) / deltaX;
+            enterX = Math.min(t1, t2);
+            exitX = Math.max(t1, t2);
+        }
+        float enterY;
+        float exitY;
+        if (deltaY == 0) {
+            if (centerY <= minY - radius || centerY >= maxY + radius) {
+                return false;
+            }
+            enterY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        } else {
+            float t1 = (minY - radius - centerY) / deltaY;
+            float t2 = (maxY + radius - centerY) / deltaY;
+            enterY = Math.min(t1, t2);
+            exitY = Math.max(t1, t2);
+        }
+        float enter = Math.max(enterX, enterY);
+        float exit = Math.min(exitX, exitY);
+        if (enter > exit || enter < 0 || enter > 1 || enter >= hit.time()) {
+            return false;
+        }
+        float contactX = centerX + deltaX * enter;
+        float contactY = centerY + deltaY * enter;
+        boolean withinX = contactX >= minX && contactX <= maxX;
+        boolean withinY = contactY >= minY && contactY <= maxY;
+        if (withinX || withinY) {
+            // Face contact
+            if (enterX > enterY) {
+                return hit.offer(enter, deltaX > 0 ? -1 : 1, 0, target, part);
+            }
+            return hit.offer(enter, 0, deltaY > 0 ? -1 : 1, target, part);
+        }
+        // Corner contact: intersect the path with the circle around the nearest corner
+        float cornerX = contactX < minX ? minX : maxX;
+        float cornerY = contactY < minY ? minY : maxY;
+        float offsetX = centerX - cornerX;
+        float offsetY = centerY - cornerY;
+        float a = deltaX * deltaX + deltaY * deltaY;
+        float b = offsetX * deltaX + offsetY * deltaY;
+        float c = offsetX * offsetX + offsetY * offsetY - radius * radius;
+        float discriminant = b * b - a * c;
+        if (discriminant < 0) {
+            return false;
+        }
+        float time = (-b - (float) Math.sqrt(discriminant)) / a;
+        if (time < 0 || time > 1) {
+            return false;
+        }
+        float normalX = (offsetX + deltaX * time) / radius;
+        float normalY = (offsetY + deltaY * time) / radius;
+        return hit.offer(time, normalX, normalY, target, part);
+    }
+}
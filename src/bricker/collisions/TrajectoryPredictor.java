@@ -0,0 +1,119 @@
+package bricker.collisions;
+
+import danogl.util.Vector2;
+
+/**
+ * Predicts where a ball crosses a horizontal line, bouncing off the side walls and the ceiling of the
+ * playfield, without stepping the simulation.
+ * Every reflection off a side wall mirrors the ball's path, so the path is unfolded into a straight line and
+ * the crossing point folded back into the playfield, at a constant cost however many times the ball bounces.
+ * Bricks are not taken into account: a ball heading up is assumed to reach the ceiling.
+ */
+public class TrajectoryPredictor {
+    private final float left;
+    private final float right;
+    private final float ceiling;
+
+    /**
+     * Constructs a new TrajectoryPredictor instance for a playfield.
+     *
+     * @param left    The x coordinate of the inner edge of the left wall.
+     * @param right   The x coordinate of the inner edge of the right wall.
+     * @param ceiling The y coordinate of the inner edge of the top wall.
+     */
+    public TrajectoryPredictor(float left, float right, float ceiling) {
+        this.left = left;
+        this.right = right;
+        this.ceiling = ceiling;
+    }
+
+    /**
+     * Returns the x coordinate of the inner edge of the left wall.
+     *
+     * @return The left edge of the playfield.
+     */
+    public float left() {
+        return this.left;
+    }
+
+    /**
+     * Returns the x coordinate of the inner edge of the right wall.
+     *
+     * @return The right edge of the playfield.
+     */
+    public float right() {
+        return this.right;
+    }
+
+    /**
+     * Returns the y coordinate of the inner edge of the top wall.
+     *
+     * @return The top edge of the playfield.
+     */
+    public float ceiling() {
+        return this.ceiling;
+    }
+
+    /**
+     * Returns the time until a ball's center reaches a height, going up to the ceiling first if it is heading
+     * up.
+     *
+     * @param center   The ball's center.
+     * @param velocity The ball's velocity.
+     * @param radius   The ball's radius.
+     * @param y        The height, below the ceiling.
+     * @return The time in seconds, or infinity if the ball never gets there.
+     */
+    public float timeToReach(Vector2 center, Vector2 velocity, float radius, float y) {
+        float vy = velocity.y();
+        if (vy > 0) {
+            return center.y() <= y ? (y - center.y()) / vy : Float.POSITIVE_INFINITY;
+        }
+        if (vy < 0) {
+            float top = this.ceiling + radius;
+            return (Math.max(center.y() - top, 0) + Math.max(y - top, 0)) / -vy;
+        }
+        return Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the x coordinate a ball's center has when it reaches a height.
+     *
+     * @param center   The ball's center.
+     * @param velocity The ball's velocity.
+     * @param radius   The ball's radius.
+     * @param y        The height, below the ceiling.
+     * @return The x coordinate, or the ball's current one if it never gets there.
+     */
+    public float landingX(Vector2 center, Vector2 velocity, float radius, float y) {
+        float time = timeToReach(center, velocity, radius, y);
+        if (Float.isInfinite(time)) {
+            return center.x();
+        }
+        return positionAfter(center.x(), velocity.x() * time, radius);
+    }
+
+    /**
+     * Returns where a ball's center ends up after moving horizontally between the side walls, reflecting off
+     * them.
+     *
+     * @param x            The x coordinate of the ball's center.
+     * @param displacement How far the ball moves horizontally, ignoring the walls.
+     * @param radius       The ball's radius.
+     * @return The x coordinate of the ball's center.
+     */
+    public float positionAfter(float x, float displacement, float radius) {
+        float low = this.left + radius;
+        float width = this.right - radius - low;
+        if (width <= 0) {
+            return low + width / 2;
+        }
+        // The unfolded path repeats every two widths: across the field and mirrored back
+        double period = 2.0 * width;
+        double unfolded = (x - low + (double) displacement) % period;
+        if (unfolded < 0) {
+            unfolded += period;
+        }
+        return (float) (low + (unfolded <= width ? unfolded : period - unfolded));
+    }
+}
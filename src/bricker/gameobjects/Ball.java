@@ -1,8 +1,8 @@
 package bricker.gameobjects;
 
+import bricker.audio.SoundEffect;
 import danogl.GameObject;
 import danogl.collisions.Collision;
-import danogl.gui.Sound;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
@@ -11,7 +11,7 @@ import danogl.util.Vector2;
  */
 public class Ball extends GameObject {
 
-    private Sound collisionSound; // Sound played upon collision
+    private SoundEffect collisionSound; // Sound played upon collision
     private int collisionCounter = 0; // Counter to track collisions with bricks
 
     /**
@@ -22,9 +22,10 @@ public class Ball extends GameObject {
      * @param dimensions     Width and height of the ball in window coordinates.
      * @param renderable     The renderable representing the ball. Can be null, in which case
      *                       the ball will not be rendered.
-     * @param collisionSound The sound to be played upon collision.
+     * @param collisionSound The sound to be played upon collision. Can be null, in which case
+     *                       the ball will collide silently.
      */
-    public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, Sound collisionSound) {
+    public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, SoundEffect collisionSound) {
         super(topLeftCorner, dimensions, renderable);
         this.collisionSound = collisionSound;
     }
@@ -37,10 +38,35 @@ public class Ball extends GameObject {
      */
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        this.collisionSound.play();
-        Vector2 newVel = getVelocity().flipped(collision.getNormal());
+        bounce(other, collision.getNormal());
+    }
+
+    /**
+     * Keeps the engine from colliding balls with each other, so balls pass through each other unless the game
+     * manager bounces them off each other itself, as in a ball storm.
+     *
+     * @param other The other game object.
+     * @return False if the other game object is a ball as well.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return !(other instanceof Ball) && super.shouldCollideWith(other);
+    }
+
+    /**
+     * Bounces the ball off another game object: plays the collision sound, reflects the velocity
+     * about the given normal and counts the collision if the other object is a brick.
+     *
+     * @param other  The game object the ball bounced off.
+     * @param normal The normal of the contact surface.
+     */
+    public void bounce(GameObject other, Vector2 normal) {
+        if (this.collisionSound != null) {
+            this.collisionSound.play();
+        }
+        Vector2 newVel = getVelocity().flipped(normal);
         this.setVelocity(newVel);
-        if(other instanceof Brick) {
+        if(other instanceof Brick || other instanceof BrickField) {
             this.collisionCounter++;
         }
     }
@@ -64,4 +90,13 @@ public class Ball extends GameObject {
     public int getCollisionCounter() {
         return collisionCounter;
     }
+
+    /**
+     * Sets the collision counter, as when the ball is restored from a snapshot.
+     *
+     * @param collisionCounter The number of collisions with bricks.
+     */
+    public void setCollisionCounter(int collisionCounter) {
+        this.collisionCounter = collisionCounter;
+    }
 }
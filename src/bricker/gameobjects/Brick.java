@@ -25,6 +25,7 @@ public class Brick extends GameObject {
      */
     Counter totalBricks;
     private CollisionStrategy collisionStrategy;
+    private boolean broken;
     public Brick(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
                  CollisionStrategy collisionStrategy, Counter totalBricks) {
         super(topLeftCorner, dimensions, renderable);
@@ -61,8 +62,25 @@ public class Brick extends GameObject {
      */
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
-        this.totalBricks.decrement();
         super.onCollisionEnter(other, collision);
+        hit(other);
+    }
+
+    /**
+     * Handles a hit by another game object.
+     * Decrements the total bricks count and delegates collision handling to the assigned collision strategy.
+     * Only the first hit counts, so a brick hit by several balls in the same frame is counted once.
+     *
+     * @param other The game object that hit the brick.
+     */
+    public void hit(GameObject other) {
+        if (this.broken) {
+            return;
+        }
+        this.broken = true;
+        if (this.totalBricks != null) {
+            this.totalBricks.decrement();
+        }
         this.collisionStrategy.onCollision(this, other);
     }
 }
@@ -0,0 +1,386 @@
+package bricker.gameobjects;
+
+import bricker.brick_strategies.CollisionStrategies;
+import bricker.brick_strategies.StrategyType;
+import bricker.collisions.SweepHit;
+import bricker.collisions.SweptCollision;
+import bricker.snapshots.StateVector;
+import danogl.GameObject;
+import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * The whole wall of bricks as a single game object.
+ * Bricks are laid out on a regular grid and stored as primitive arrays indexed by cell (alive flag, strategy
+ * code and hit count), so a brick costs a few bytes instead of a full game object. A ball's bounding box maps
+ * straight to the few cells it overlaps, so colliding with the wall doesn't depend on the number of bricks,
+ * and the wall is drawn into the cached {@link StaticLayer} rather than by the engine.
+ */
+public class BrickField extends GameObject {
+    private final Vector2 cellDimensions;
+    private final int columns;
+    private final int rows;
+    private final Renderable brickImage;
+    private final CollisionStrategies strategies;
+    private final Counter totalBricks;
+    private final boolean[] alive;
+    private final byte[] strategyCodes;
+    private final byte[] hitCounts;
+    private final int[] triggerCounts = new int[StrategyType.values().length];
+    // Stands in for the broken brick when its strategy runs; it is in no collection, so removing it is a no-op
+    private final GameObject brokenBrick;
+    private Consumer<Rectangle> breakListener;
+    private int bricksLeft;
+
+    /**
+     * Constructs a new BrickField instance without bricks.
+     *
+     * @param topLeftCorner  The top-left corner of the wall, in window coordinates.
+     * @param cellDimensions The dimensions of a single brick.
+     * @param columns        The number of bricks in a row.
+     * @param rows           The number of rows of bricks.
+     * @param brickImage     The renderable every brick is drawn with. Can be null, in which case the bricks
+     *                       are not drawn.
+     * @param strategies     The shared collision strategy of every strategy type.
+     * @param totalBricks    The counter to track the total number of bricks.
+     */
+    public BrickField(Vector2 topLeftCorner, Vector2 cellDimensions, int columns, int rows, Renderable brickImage,
+                      CollisionStrategies strategies, Counter totalBricks) {
+        super(topLeftCorner, new Vector2(cellDimensions.x() * columns, cellDimensions.y() * rows), null);
+        this.cellDimensions = cellDimensions;
+        this.columns = columns;
+        this.rows = rows;
+        this.brickImage = brickImage;
+        this.strategies = strategies;
+        this.totalBricks = totalBricks;
+        this.alive = new boolean[columns * rows];
+        this.strategyCodes = new byte[columns * rows];
+        this.hitCounts = new byte[columns * rows];
+        this.brokenBrick = new GameObject(topLeftCorner, cellDimensions, null);
+    }
+
+    /**
+     * Places a brick in the given cell.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @param type   The type of the brick's collision strategy.
+     */
+    public void add(int row, int column, StrategyType type) {
+        int cell = row * this.columns + column;
+        if (!this.alive[cell]) {
+            this.alive[cell] = true;
+            this.bricksLeft++;
+            this.totalBricks.increment();
+        }
+        this.strategyCodes[cell] = (byte) type.code();
+        this.hitCounts[cell] = 0;
+    }
+
+    /**
+     * Returns whether there is a brick in the given cell.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return True if the cell holds a brick.
+     */
+    public boolean isAlive(int row, int column) {
+        return this.alive[row * this.columns + column];
+    }
+
+    /**
+     * Returns the type of collision strategy of the given cell.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The strategy type.
+     */
+    public StrategyType strategyAt(int row, int column) {
+        return StrategyType.fromCode(this.strategyCodes[row * this.columns + column]);
+    }
+
+    /**
+     * Returns how many times the brick in the given cell was hit.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The number of hits.
+     */
+    public int hitCount(int row, int column) {
+        return this.hitCounts[row * this.columns + column];
+    }
+
+    /**
+     * Returns how many times bricks with the given type of strategy were hit.
+     *
+     * @param type The strategy type.
+     * @return The number of hits.
+     */
+    public int triggerCount(StrategyType type) {
+        return this.triggerCounts[type.code()];
+    }
+
+    /**
+     * Returns the number of bricks still in the wall.
+     *
+     * @return The number of bricks left.
+     */
+    public int bricksLeft() {
+        return this.bricksLeft;
+    }
+
+    /**
+     * Collides a ball with the bricks in the cells its bounding box overlaps.
+     * Every overlapped brick is hit and broken. The ball bounces off a brick only while it is moving towards it,
+     * so touching two bricks at once does not flip the ball back into the wall.
+     *
+     * @param ball The ball to collide.
+     */
+    public void resolveCollisions(Ball ball) {
+        findContacts(ball, cell -> resolveContact(ball, cell));
+    }
+
+    /**
+     * Finds the live bricks a ball's bounding box overlaps, without hitting them, and passes their cells to the
+     * consumer row by row, in the order {@link #resolveCollisions(Ball)} hits them.
+     * Changes nothing, so balls can be tested on several threads at once while the wall isn't being hit.
+     *
+     * @param ball     The ball to test.
+     * @param contacts The consumer of the cells the ball overlaps.
+     */
+    public void findContacts(Ball ball, IntConsumer contacts) {
+        Vector2 ballTopLeft = ball.getTopLeftCorner();
+        Vector2 ballDimensions = ball.getDimensions();
+        int firstColumn = Math.max(columnOf(ballTopLeft.x()), 0);
+        int lastColumn = Math.min(columnOf(ballTopLeft.x() + ballDimensions.x()), this.columns - 1);
+        int firstRow = Math.max(rowOf(ballTopLeft.y()), 0);
+        int lastRow = Math.min(rowOf(ballTopLeft.y() + ballDimensions.y()), this.rows - 1);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * this.columns + column;
+                if (this.alive[cell] && overlaps(ballTopLeft, ballDimensions, row, column)) {
+                    contacts.accept(cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collides a ball with the brick in a cell it overlaps: bounces the ball if it is moving towards the brick,
+     * then hits the brick. Does nothing if the cell is already empty, as when an earlier ball broke it.
+     *
+     * @param ball The ball.
+     * @param cell The index of the cell, row by row, as found by {@link #findContacts(Ball, IntConsumer)}.
+     */
+    public void resolveContact(Ball ball, int cell) {
+        if (!this.alive[cell]) {
+            return;
+        }
+        Vector2 normal = contactNormal(ball, cell / this.columns, cell % this.columns);
+        if (ball.getVelocity().dot(normal) < 0) {
+            ball.bounce(this, normal);
+        }
+        hit(cell, ball);
+    }
+
+    /**
+     * Sweeps a ball along a displacement against the bricks in the cells its path covers, and offers the
+     * earliest contact to the hit. The contact's part is the index of the cell hit.
+     *
+     * @param ball         The moving ball.
+     * @param displacement How far the ball moves during the sweep.
+     * @param hit          The earliest hit so far.
+     */
+    public void sweep(Ball ball, Vector2 displacement, SweepHit hit) {
+        Vector2 ballTopLeft = ball.getTopLeftCorner();
+        Vector2 ballDimensions = ball.getDimensions();
+        float minX = ballTopLeft.x() + Math.min(displacement.x(), 0);
+        float maxX = ballTopLeft.x() + ballDimensions.x() + Math.max(displacement.x(), 0);
+        float minY = ballTopLeft.y() + Math.min(displacement.y(), 0);
+        float maxY = ballTopLeft.y() + ballDimensions.y() + Math.max(displacement.y(), 0);
+        int firstColumn = Math.max(columnOf(minX), 0);
+        int lastColumn = Math.min(columnOf(maxX), this.columns - 1);
+        int firstRow = Math.max(rowOf(minY), 0);
+        int lastRow = Math.min(rowOf(maxY), this.rows - 1);
+        if (firstColumn > lastColumn || firstRow > lastRow) {
+            return;
+        }
+        float centerX = ballTopLeft.x() + ballDimensions.x() / 2;
+        float centerY = ballTopLeft.y() + ballDimensions.y() / 2;
+        float radius = ballDimensions.x() / 2;
+        Vector2 origin = getTopLeftCorner();
+        for (int row = firstRow; row <= lastRow; row++) {
+            float cellMinY = origin.y() + row * this.cellDimensions.y();
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = row * this.columns + column;
+                if (this.alive[cell]) {
+                    float cellMinX = origin.x() + column * this.cellDimensions.x();
+                    SweptCollision.sweepCircle(centerX, centerY, radius, displacement.x(), displacement.y(),
+                            cellMinX, cellMinY, cellMinX + this.cellDimensions.x(),
+                            cellMinY + this.cellDimensions.y(), this, cell, hit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hits the brick in a cell with a ball, breaks it and runs its collision strategy.
+     * Does nothing if the cell is already empty.
+     *
+     * @param cell The index of the cell, row by row.
+     * @param ball The ball that hit it.
+     */
+    public void hit(int cell, Ball ball) {
+        if (cell < 0 || cell >= this.alive.length || !this.alive[cell]) {
+            return;
+        }
+        this.alive[cell] = false;
+        this.hitCounts[cell]++;
+        this.bricksLeft--;
+        this.totalBricks.decrement();
+        int code = this.strategyCodes[cell];
+        this.triggerCounts[code]++;
+        Vector2 origin = getTopLeftCorner();
+        this.brokenBrick.setTopLeftCorner(new Vector2(origin.x() + (cell % this.columns) * this.cellDimensions.x(),
+                origin.y() + (cell / this.columns) * this.cellDimensions.y()));
+        if (this.breakListener != null) {
+            Vector2 corner = this.brokenBrick.getTopLeftCorner();
+            // Rounded out to whole pixels, the same way paintCells draws the brick
+            this.breakListener.accept(new Rectangle(Math.round(corner.x()) - 1, Math.round(corner.y()) - 1,
+                    Math.round(this.cellDimensions.x()) + 2, Math.round(this.cellDimensions.y()) + 2));
+        }
+        this.strategies.get(StrategyType.fromCode(code)).onCollision(this.brokenBrick, ball);
+    }
+
+    /**
+     * Appends which cells hold a brick to a snapshot state, one bit per cell, 32 cells to an int.
+     *
+     * @param state The state to append to.
+     */
+    public void writeAlive(StateVector state) {
+        for (int start = 0; start < this.alive.length; start += Integer.SIZE) {
+            int bits = 0;
+            int end = Math.min(start + Integer.SIZE, this.alive.length);
+            for (int cell = start; cell < end; cell++) {
+                if (this.alive[cell]) {
+                    bits |= 1 << (cell - start);
+                }
+            }
+            state.add(bits);
+        }
+    }
+
+    /**
+     * Restores which cells hold a brick from a snapshot state written by {@link #writeAlive(StateVector)}.
+     * Bricks come back with their strategies, the brick counter is corrected in one step, and the whole wall
+     * is reported to the break listener so it is redrawn.
+     *
+     * @param state  The state to read from.
+     * @param offset The index the bits start at.
+     * @return The index after the bits.
+     */
+    public int readAlive(StateVector state, int offset) {
+        int bricks = 0;
+        for (int cell = 0; cell < this.alive.length; cell++) {
+            this.alive[cell] = (state.get(offset + cell / Integer.SIZE) >>> (cell % Integer.SIZE) & 1) != 0;
+            if (this.alive[cell]) {
+                bricks++;
+            }
+        }
+        this.totalBricks.increaseBy(bricks - this.bricksLeft);
+        this.bricksLeft = bricks;
+        if (this.breakListener != null) {
+            Vector2 corner = getTopLeftCorner();
+            this.breakListener.accept(new Rectangle(Math.round(corner.x()) - 1, Math.round(corner.y()) - 1,
+                    Math.round(getDimensions().x()) + 2, Math.round(getDimensions().y()) + 2));
+        }
+        return offset + (this.alive.length + Integer.SIZE - 1) / Integer.SIZE;
+    }
+
+    /**
+     * Sets the listener told about the region of every brick that breaks, so a cached drawing of the wall
+     * can be redrawn where it changed.
+     *
+     * @param breakListener The listener, or null for none.
+     */
+    public void setBreakListener(Consumer<Rectangle> breakListener) {
+        this.breakListener = breakListener;
+    }
+
+    /**
+     * Draws the live bricks that intersect a region of the window. The field itself is not rendered by the
+     * engine; it is drawn into the cached static layer through this method.
+     *
+     * @param g      The graphics context to draw on, in window coordinates.
+     * @param region The region to draw, in window coordinates.
+     */
+    public void paintCells(Graphics2D g, Rectangle region) {
+        if (this.brickImage == null) {
+            return;
+        }
+        int firstColumn = Math.max(columnOf(region.x), 0);
+        int lastColumn = Math.min(columnOf(region.x + region.width), this.columns - 1);
+        int firstRow = Math.max(rowOf(region.y), 0);
+        int lastRow = Math.min(rowOf(region.y + region.height), this.rows - 1);
+        Vector2 origin = getTopLeftCorner();
+        Image image = this.brickImage instanceof ImageRenderable
+                ? ((ImageRenderable) this.brickImage).getImage() : null;
+        int width = Math.round(this.cellDimensions.x());
+        int height = Math.round(this.cellDimensions.y());
+        for (int row = firstRow; row <= lastRow; row++) {
+            int y = Math.round(origin.y() + row * this.cellDimensions.y());
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                if (!this.alive[row * this.columns + column]) {
+                    continue;
+                }
+                int x = Math.round(origin.x() + column * this.cellDimensions.x());
+                if (image != null) {
+                    g.drawImage(image, x, y, width, height, null);
+                } else {
+                    this.brickImage.render(g, new Vector2(x, y), this.cellDimensions, 0, false, false, 1);
+                }
+            }
+        }
+    }
+
+    private int columnOf(float x) {
+        return (int) Math.floor((x - getTopLeftCorner().x()) / this.cellDimensions.x());
+    }
+
+    private int rowOf(float y) {
+        return (int) Math.floor((y - getTopLeftCorner().y()) / this.cellDimensions.y());
+    }
+
+    private boolean overlaps(Vector2 ballTopLeft, Vector2 ballDimensions, int row, int column) {
+        float cellMinX = getTopLeftCorner().x() + column * this.cellDimensions.x();
+        float cellMinY = getTopLeftCorner().y() + row * this.cellDimensions.y();
+        return ballTopLeft.x() < cellMinX + this.cellDimensions.x()
+                && cellMinX < ballTopLeft.x() + ballDimensions.x()
+                && ballTopLeft.y() < cellMinY + this.cellDimensions.y()
+                && cellMinY < ballTopLeft.y() + ballDimensions.y();
+    }
+
+    /*
+     * The normal points from the brick towards the ball, along the axis of least penetration.
+     */
+    private Vector2 contactNormal(Ball ball, int row, int column) {
+        float cellCenterX = getTopLeftCorner().x() + (column + 0.5f) * this.cellDimensions.x();
+        float cellCenterY = getTopLeftCorner().y() + (row + 0.5f) * this.cellDimensions.y();
+        float deltaX = ball.getCenter().x() - cellCenterX;
+        float deltaY = ball.getCenter().y() - cellCenterY;
+        float overlapX = (ball.getDimensions().x() + this.cellDimensions.x()) / 2 - Math.abs(deltaX);
+        float overlapY = (ball.getDimensions().y() + this.cellDimensions.y()) / 2 - Math.abs(deltaY);
+        if (overlapX < overlapY) {
+            return deltaX < 0 ? Vector2.LEFT : Vector2.RIGHT;
+        }
+        return deltaY < 0 ? Vector2.UP : Vector2.DOWN;
+    }
+}
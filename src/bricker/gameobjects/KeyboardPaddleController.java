@@ -0,0 +1,40 @@
+package bricker.gameobjects;
+
+import danogl.gui.UserInputListener;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * Moves a paddle at full speed while the left or right arrow key is held.
+ */
+public class KeyboardPaddleController implements PaddleController {
+    private final UserInputListener inputListener;
+
+    /**
+     * Constructs a new KeyboardPaddleController instance.
+     *
+     * @param inputListener The user input listener the arrow keys are read from.
+     */
+    public KeyboardPaddleController(UserInputListener inputListener) {
+        this.inputListener = inputListener;
+    }
+
+    /**
+     * Returns the direction of the arrow keys held. Holding both keeps the paddle still.
+     *
+     * @param paddle    The paddle being moved.
+     * @param deltaTime The time elapsed since the last frame, in seconds.
+     * @return -1 for left, 1 for right, 0 for neither or both.
+     */
+    @Override
+    public float direction(UserPaddle paddle, float deltaTime) {
+        float direction = 0;
+        if (this.inputListener.isKeyPressed(KeyEvent.VK_LEFT)) {
+            direction--;
+        }
+        if (this.inputListener.isKeyPressed(KeyEvent.VK_RIGHT)) {
+            direction++;
+        }
+        return direction;
+    }
+}
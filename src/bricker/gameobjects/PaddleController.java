@@ -0,0 +1,15 @@
+package bricker.gameobjects;
+
+/**
+ * Decides which way a paddle moves every frame, so the same paddle can be played from the keyboard or by a bot.
+ */
+public interface PaddleController {
+    /**
+     * Returns the direction the paddle moves in this frame, as a fraction of its movement speed.
+     *
+     * @param paddle    The paddle being moved.
+     * @param deltaTime The time elapsed since the last frame, in seconds.
+     * @return -1 to move left at full speed, 1 to move right at full speed, 0 to stay, or anything in between.
+     */
+    float direction(UserPaddle paddle, float deltaTime);
+}
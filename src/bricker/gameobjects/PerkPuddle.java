@@ -16,6 +16,7 @@ import java.util.Objects;
  */
 public class PerkPuddle extends UserPaddle{
     private Counter perkPaddleState;
+    private boolean released;
     /**
      * Constructs a new PerkPuddle instance.
      *
@@ -42,16 +43,26 @@ public class PerkPuddle extends UserPaddle{
     }
 
 
+    /**
+     * Marks whether the perk paddle was released to its pool. A released paddle stays in the game until the
+     * end of the frame, but ignores collisions, so it can't count towards a paddle that no longer exists.
+     *
+     * @param released True when the paddle is released, false when it is taken from the pool again.
+     */
+    public void setReleased(boolean released) {
+        this.released = released;
+    }
+
     /**
      * Handles the behavior of the perk paddle upon colliding with another game object.
-     * Increments the perk paddle state counter if colliding with a ball.
+     * Increments the perk paddle state counter if colliding with a ball, unless the paddle was released.
      *
      * @param other     The other game object involved in the collision.
      * @param collision Information about the collision.
      */
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
-        if(Objects.equals(other.getTag(), "Ball")){
+        if(!this.released && Objects.equals(other.getTag(), "Ball")){
             super.onCollisionEnter(other, collision);
             this.perkPaddleState.increment();
         }
@@ -0,0 +1,157 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Camera;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The parts of the scene that don't move (background, walls and the wall of bricks), drawn once into an
+ * offscreen image. Every frame the engine draws the cached image in a single call; only the regions of bricks
+ * that broke since the last frame are redrawn into it.
+ */
+public class StaticLayer extends GameObject {
+    private final List<Renderable> renderables = new ArrayList<>();
+    private final List<Rectangle> bounds = new ArrayList<>();
+    private final Rectangle dirtyRegion = new Rectangle();
+    private BrickField brickField;
+    private BufferedImage cache;
+    private boolean dirty = true;
+    private int redrawnPixels;
+
+    /**
+     * Constructs a new, empty StaticLayer instance covering the window.
+     *
+     * @param windowDimensions The dimensions of the game window.
+     */
+    public StaticLayer(Vector2 windowDimensions) {
+        super(Vector2.ZERO, windowDimensions, null);
+        this.dirtyRegion.setBounds(0, 0, (int) windowDimensions.x(), (int) windowDimensions.y());
+    }
+
+    /**
+     * Adds a static renderable to the layer, on top of the ones already added.
+     *
+     * @param renderable    The renderable.
+     * @param topLeftCorner Its position, in window coordinates.
+     * @param dimensions    Its dimensions.
+     */
+    public void add(Renderable renderable, Vector2 topLeftCorner, Vector2 dimensions) {
+        Rectangle area = new Rectangle(Math.round(topLeftCorner.x()), Math.round(topLeftCorner.y()),
+                Math.round(dimensions.x()), Math.round(dimensions.y()));
+        this.renderables.add(renderable);
+        this.bounds.add(area);
+        invalidate(area);
+    }
+
+    /**
+     * Sets the wall of bricks drawn on top of the static renderables. Broken bricks are erased from the cache.
+     *
+     * @param brickField The wall of bricks.
+     */
+    public void setBrickField(BrickField brickField) {
+        this.brickField = brickField;
+        brickField.setBreakListener(this::invalidate);
+        Vector2 topLeft = brickField.getTopLeftCorner();
+        Vector2 dimensions = brickField.getDimensions();
+        invalidate(new Rectangle((int) topLeft.x(), (int) topLeft.y(), (int) Math.ceil(dimensions.x()) + 1,
+                (int) Math.ceil(dimensions.y()) + 1));
+    }
+
+    /**
+     * Marks a region of the layer to be redrawn before it is next rendered.
+     *
+     * @param region The region, in window coordinates.
+     */
+    public void invalidate(Rectangle region) {
+        if (this.dirty) {
+            this.dirtyRegion.add(region);
+        } else {
+            this.dirtyRegion.setBounds(region);
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * Returns how many pixels of the cache were redrawn in the last frame, zero if it was drawn as is.
+     *
+     * @return The number of redrawn pixels.
+     */
+    public int getRedrawnPixels() {
+        return this.redrawnPixels;
+    }
+
+    /**
+     * Redraws the invalidated region of the cache, if any, and draws the cache.
+     *
+     * @param g      The graphics context to render into.
+     * @param camera The camera the scene is seen through, or null to draw in window coordinates.
+     */
+    @Override
+    public void render(Graphics2D g, Camera camera) {
+        this.redrawnPixels = 0;
+        if (this.cache == null) {
+            // Created on first render, so games that are never drawn don't hold an image. The background covers
+            // the whole layer, so the image is opaque and is copied to the screen without blending
+            this.cache = new BufferedImage((int) getDimensions().x(), (int) getDimensions().y(),
+                    BufferedImage.TYPE_INT_RGB);
+        }
+        if (this.dirty) {
+            redraw(this.dirtyRegion.intersection(new Rectangle(0, 0, this.cache.getWidth(), this.cache.getHeight())));
+            this.dirty = false;
+        }
+        if (camera == null) {
+            g.drawImage(this.cache, 0, 0, null);
+            return;
+        }
+        // Only the part of the cache the camera sees is copied
+        Vector2 viewTopLeft = camera.getTopLeftCorner();
+        Vector2 viewBottomRight = viewTopLeft.add(camera.getDimensions());
+        int sourceMinX = Math.max((int) Math.floor(viewTopLeft.x()), 0);
+        int sourceMinY = Math.max((int) Math.floor(viewTopLeft.y()), 0);
+        int sourceMaxX = Math.min((int) Math.ceil(viewBottomRight.x()), this.cache.getWidth());
+        int sourceMaxY = Math.min((int) Math.ceil(viewBottomRight.y()), this.cache.getHeight());
+        if (sourceMinX >= sourceMaxX || sourceMinY >= sourceMaxY) {
+            return;
+        }
+        Vector2 topLeft = camera.worldToScreenCoords(new Vector2(sourceMinX, sourceMinY));
+        Vector2 bottomRight = camera.worldToScreenCoords(new Vector2(sourceMaxX, sourceMaxY));
+        g.drawImage(this.cache, Math.round(topLeft.x()), Math.round(topLeft.y()), Math.round(bottomRight.x()),
+                Math.round(bottomRight.y()), sourceMinX, sourceMinY, sourceMaxX, sourceMaxY, null);
+    }
+
+    private void redraw(Rectangle region) {
+        if (region.isEmpty()) {
+            return;
+        }
+        Graphics2D cacheGraphics = this.cache.createGraphics();
+        try {
+            cacheGraphics.setClip(region);
+            Composite composite = cacheGraphics.getComposite();
+            cacheGraphics.setComposite(AlphaComposite.Clear);
+            cacheGraphics.fill(region);
+            cacheGraphics.setComposite(composite);
+            for (int i = 0; i < this.renderables.size(); i++) {
+                Rectangle area = this.bounds.get(i);
+                if (area.intersects(region)) {
+                    this.renderables.get(i).render(cacheGraphics, new Vector2(area.x, area.y),
+                            new Vector2(area.width, area.height), 0, false, false, 1);
+                }
+            }
+            if (this.brickField != null) {
+                this.brickField.paintCells(cacheGraphics, region);
+            }
+        } finally {
+            cacheGraphics.dispose();
+        }
+        this.redrawnPixels = region.width * region.height;
+    }
+}
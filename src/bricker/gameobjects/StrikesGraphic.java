@@ -4,16 +4,14 @@ import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
 import danogl.gui.rendering.Renderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
-
-import java.awt.event.KeyEvent;
+import bricker.util.ObservableCounter;
 
 /**
  * Responsible for displaying the game's strikes graphically with the supplied Renderable.
+ * The display subscribes to the strikes counter and only changes when the number of strikes does.
  */
 public class StrikesGraphic extends GameObject {
-    private Counter strikesLeft; // Points to the main Counter object managed by BrickerGameManager
     private int symbolsCount; // Local counter
     private GameObjectCollection gameObjectCollection;
     private GameObject[] strikeSymbols;
@@ -29,9 +27,8 @@ public class StrikesGraphic extends GameObject {
      * @param initialStrikes           The initial number of strikes.
      */
     public StrikesGraphic(Vector2 strikesGraphicDimensions,Vector2 screenDimensions, Vector2 renderableDimensions, Renderable renderable,
-                          GameObjectCollection gameObjectCollection, Counter initialStrikes) {
+                          GameObjectCollection gameObjectCollection, ObservableCounter initialStrikes) {
         super(Vector2.ZERO, Vector2.ZERO, renderable);
-        this.strikesLeft = initialStrikes;
         this.symbolsCount = initialStrikes.value();
         this.gameObjectCollection = gameObjectCollection;
         this.strikeSymbols = new GraphicStrike[symbolsCount];
@@ -42,19 +39,24 @@ public class StrikesGraphic extends GameObject {
             this.strikeSymbols[i] = graphicStrike;
             gameObjectCollection.addGameObject(graphicStrike, Layer.UI);
         }
+        initialStrikes.subscribe(this::onStrikesChanged);
     }
 
     /**
-     * Updates the StrikesGraphic instance.
+     * Removes the strike symbols above the new number of strikes, and puts back the ones below it when strikes
+     * are regained, as when the game is rewound, up to the initial number of strikes.
      *
-     * @param deltaTime The time elapsed since the last update.
+     * @param oldValue The number of strikes before the change.
+     * @param newValue The number of strikes after the change.
      */
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        //TODO:: < or >
-        if(strikesLeft.value() != symbolsCount){
+    private void onStrikesChanged(int oldValue, int newValue) {
+        while (symbolsCount > Math.max(newValue, 0)) {
             this.gameObjectCollection.removeGameObject(strikeSymbols[symbolsCount - 1], Layer.UI);
             symbolsCount--;
         }
+        while (symbolsCount < Math.min(newValue, strikeSymbols.length)) {
+            this.gameObjectCollection.addGameObject(strikeSymbols[symbolsCount], Layer.UI);
+            symbolsCount++;
+        }
     }
 }
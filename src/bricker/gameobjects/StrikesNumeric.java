@@ -5,20 +5,20 @@ import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
 import danogl.gui.rendering.Renderable;
 import danogl.gui.rendering.TextRenderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
+import bricker.util.ObservableCounter;
 
 import java.awt.*;
 
 /**
  * Responsible to display game's strikes left in form of some hearts and a number
- * matching the strikesLeft field
+ * matching the strikesLeft field.
+ * The display subscribes to the strikes counter and only changes when the number of strikes does.
  */
 public class StrikesNumeric extends GameObject {
     private static final int GREEN_STRIKES = 3;
     private static final int YELLOW_STRIKES = 2;
     private static final int RED_STRIKES = 1;
-    private Counter strikesLeft; // Points to the main Counter object managed by BrickerGameManager
     private int numberDisplayed; // Local counter
     private GameObject displayedObject;
     private final Vector2 displayLocation;
@@ -37,10 +37,9 @@ public class StrikesNumeric extends GameObject {
      * @param initialStrikes       The initial number of strikes.
      */
     public StrikesNumeric(Vector2 topLeftCorner, Vector2 dimensions, TextRenderable textRenderable,
-                   GameObjectCollection gameObjectCollection, Counter initialStrikes ) {
+                   GameObjectCollection gameObjectCollection, ObservableCounter initialStrikes ) {
         super(topLeftCorner, dimensions, null);
         // init
-        this.strikesLeft = initialStrikes;
         this.numberDisplayed = initialStrikes.value();
         this.gameObjectCollection = gameObjectCollection;
         this.displayDimensions = dimensions;
@@ -57,20 +56,19 @@ public class StrikesNumeric extends GameObject {
         }
         this.displayedObject = new GameObject(topLeftCorner, dimensions, textRenderable);
         gameObjectCollection.addGameObject(displayedObject, Layer.UI);
+        initialStrikes.subscribe(this::onStrikesChanged);
     }
     /**
-     * Updates the StrikesNumeric instance.
+     * Replaces the displayed number with the new number of strikes.
      *
-     * This method should be called once per frame.
-     *
-     * @param deltaTime The time elapsed since the last frame, in seconds.
+     * @param oldValue The number of strikes before the change.
+     * @param newValue The number of strikes after the change.
      */
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        if (strikesLeft.value() != numberDisplayed) {
-            numberDisplayed--;
+    private void onStrikesChanged(int oldValue, int newValue) {
+        if (newValue != numberDisplayed) {
+            numberDisplayed = newValue;
             this.gameObjectCollection.removeGameObject(this.displayedObject, Layer.UI);
-            TextRenderable displayNumber = new TextRenderable(String.format("Strikes left: %d", strikesLeft.value()));
+            TextRenderable displayNumber = new TextRenderable(String.format("Strikes left: %d", newValue));
             if(numberDisplayed >= GREEN_STRIKES) {
                 displayNumber.setColor(Color.green);
             }
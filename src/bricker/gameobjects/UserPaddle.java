@@ -6,16 +6,15 @@ import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
-import java.awt.event.KeyEvent;
 /**
  * Represents a user-controlled paddle GameObject in the game.
  */
 public class UserPaddle extends GameObject {
     private static  final float MOVEMENT_DEFAULT = 100;
     private float  movementSpeed;
-    private UserInputListener inputListener;
+    private PaddleController controller;
     /**
-     * Constructs a new UserPaddle instance.
+     * Constructs a new UserPaddle instance moved by the arrow keys.
      *
      * @param topLeftCorner Position of the paddle, in window coordinates (pixels).
      *                      Note that (0,0) is the top-left corner of the window.
@@ -27,8 +26,24 @@ public class UserPaddle extends GameObject {
      */
     public UserPaddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
                       UserInputListener inputListener, float movementSpeed) {
+        this(topLeftCorner, dimensions, renderable, new KeyboardPaddleController(inputListener), movementSpeed);
+    }
+
+    /**
+     * Constructs a new UserPaddle instance.
+     *
+     * @param topLeftCorner Position of the paddle, in window coordinates (pixels).
+     *                      Note that (0,0) is the top-left corner of the window.
+     * @param dimensions    Width and height of the paddle in window coordinates.
+     * @param renderable    The renderable representing the paddle. Can be null, in which case
+     *                      the paddle will not be rendered.
+     * @param controller    The controller that moves the paddle.
+     * @param movementSpeed The movement speed of the paddle.
+     */
+    public UserPaddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
+                      PaddleController controller, float movementSpeed) {
         super(topLeftCorner, dimensions, renderable);
-        this.inputListener=inputListener;
+        this.controller = controller;
         this.movementSpeed = movementSpeed;
         if(this.movementSpeed==0) {
             this.movementSpeed=MOVEMENT_DEFAULT;
@@ -36,6 +51,33 @@ public class UserPaddle extends GameObject {
     }
 
 
+    /**
+     * Sets the controller that moves the paddle from the next frame on.
+     *
+     * @param controller The controller.
+     */
+    public void setController(PaddleController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Returns the controller that moves the paddle.
+     *
+     * @return The controller.
+     */
+    public PaddleController getController() {
+        return this.controller;
+    }
+
+    /**
+     * Returns the speed the paddle moves at when its controller moves it at full speed.
+     *
+     * @return The movement speed, in pixels per second.
+     */
+    public float getMovementSpeed() {
+        return this.movementSpeed;
+    }
+
     /**
      * Updates the UserPaddle instance.
      *
@@ -46,13 +88,7 @@ public class UserPaddle extends GameObject {
     @Override
     public void update(float deltaTime) {
         super.update(deltaTime);
-        Vector2 movementDir = Vector2.ZERO;
-        if (this.inputListener.isKeyPressed(KeyEvent.VK_LEFT)) {
-            movementDir = movementDir.add(Vector2.LEFT.mult(movementSpeed));
-        }
-        if (this.inputListener.isKeyPressed(KeyEvent.VK_RIGHT)) {
-            movementDir = movementDir.add(Vector2.RIGHT.mult(movementSpeed));
-        }
-        setVelocity(movementDir);
+        float direction = Math.max(-1, Math.min(1, this.controller.direction(this, deltaTime)));
+        setVelocity(Vector2.RIGHT.mult(direction * movementSpeed));
     }
 }
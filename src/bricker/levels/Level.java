@@ -0,0 +1,167 @@
+package bricker.levels;
+
+import bricker.brick_strategies.StrategyType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A level read from, or written to, a level file.
+ * The file is a fixed 24-byte header (magic, version, columns, rows, seed) followed by one strategy code byte
+ * per cell, row by row, so a level is loaded by mapping the file and reading the cells in place,
+ * with nothing to parse.
+ */
+public class Level {
+    /**
+     * The code of a cell without a brick.
+     */
+    public static final byte EMPTY = (byte) 0xFF;
+
+    private static final int MAGIC = 0x424C564C; // "BLVL"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+
+    private final int columns;
+    private final int rows;
+    private final long seed;
+    private final ByteBuffer cells;
+
+    /**
+     * Constructs a new Level instance from cell codes.
+     *
+     * @param columns The number of bricks in a row.
+     * @param rows    The number of rows of bricks.
+     * @param seed    The seed of the randomness of a game on the level.
+     * @param cells   The strategy code of every cell, row by row, or {@link #EMPTY}.
+     */
+    public Level(int columns, int rows, long seed, byte[] cells) {
+        this(columns, rows, seed, ByteBuffer.wrap(cells));
+    }
+
+    private Level(int columns, int rows, long seed, ByteBuffer cells) {
+        if (columns <= 0 || rows <= 0 || (long) columns * rows != cells.remaining()) {
+            throw new IllegalArgumentException("Level of " + columns + "x" + rows + " has "
+                    + cells.remaining() + " cells");
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.seed = seed;
+        this.cells = cells;
+    }
+
+    /**
+     * Loads a level by mapping its file into memory. The cells are read straight from the mapping.
+     *
+     * @param path The path of the level file.
+     * @return The level.
+     * @throws IOException If the file can't be read or isn't a level file.
+     */
+    public static Level load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException(path + " is not a level file");
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.BIG_ENDIAN);
+            if (mapped.getInt() != MAGIC) {
+                throw new IOException(path + " is not a level file");
+            }
+            int version = mapped.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported level file version " + version);
+            }
+            int columns = mapped.getInt();
+            int rows = mapped.getInt();
+            long seed = mapped.getLong();
+            if (columns <= 0 || rows <= 0 || (long) columns * rows != mapped.remaining()) {
+                throw new IOException(path + " is truncated or has a corrupt header");
+            }
+            return new Level(columns, rows, seed, mapped.slice());
+        }
+    }
+
+    /**
+     * Writes the level to a file, replacing it if it exists.
+     *
+     * @param path The path of the level file.
+     * @throws IOException If the file can't be written.
+     */
+    public void save(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(this.columns).putInt(this.rows).putLong(this.seed).flip();
+        ByteBuffer cells = this.cells.duplicate();
+        cells.rewind();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining() || cells.hasRemaining()) {
+                channel.write(new ByteBuffer[]{header, cells});
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bricks in a row.
+     *
+     * @return The number of columns.
+     */
+    public int columns() {
+        return this.columns;
+    }
+
+    /**
+     * Returns the number of rows of bricks.
+     *
+     * @return The number of rows.
+     */
+    public int rows() {
+        return this.rows;
+    }
+
+    /**
+     * Returns the seed of the randomness of a game on the level.
+     *
+     * @return The seed.
+     */
+    public long seed() {
+        return this.seed;
+    }
+
+    /**
+     * Returns a copy of the strategy code of every cell, row by row, as passed to
+     * {@link #Level(int, int, long, byte[])}.
+     *
+     * @return The cell codes.
+     */
+    public byte[] cells() {
+        byte[] codes = new byte[this.columns * this.rows];
+        this.cells.get(0, codes);
+        return codes;
+    }
+
+    /**
+     * Returns whether the cell holds a brick.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return True if the cell holds a brick.
+     */
+    public boolean hasBrick(int row, int column) {
+        return this.cells.get(row * this.columns + column) != EMPTY;
+    }
+
+    /**
+     * Returns the collision strategy type of the brick in the cell.
+     *
+     * @param row    The row of the cell.
+     * @param column The column of the cell.
+     * @return The strategy type.
+     * @throws IllegalArgumentException If the cell is empty or has an unknown code.
+     */
+    public StrategyType strategyAt(int row, int column) {
+        return StrategyType.fromCode(this.cells.get(row * this.columns + column));
+    }
+}
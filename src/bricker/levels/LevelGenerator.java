@@ -0,0 +1,51 @@
+package bricker.levels;
+
+import bricker.brick_strategies.StrategyType;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Generates level files with randomly chosen collision strategies, the same way the game lays out a random level.
+ */
+public class LevelGenerator {
+    private LevelGenerator() {
+    }
+
+    /**
+     * Generates a level with a collision strategy in every cell.
+     *
+     * @param columns The number of bricks in a row.
+     * @param rows    The number of rows of bricks.
+     * @param seed    The seed of the layout, which is also the seed of games played on the level.
+     * @param weights The relative weight of every strategy type, in {@link StrategyType} order.
+     * @return The level.
+     */
+    public static Level generate(int columns, int rows, long seed, double[] weights) {
+        Random random = new Random(seed);
+        byte[] cells = new byte[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = (byte) StrategyType.choose(random, weights).code();
+        }
+        return new Level(columns, rows, seed, cells);
+    }
+
+    /**
+     * The entry point of the generator.
+     *
+     * @param args Command-line arguments: the path of the level file, the number of bricks in a row,
+     *             the number of rows of bricks and, optionally, the seed.
+     * @throws IOException If the level file can't be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: LevelGenerator <level file> <bricksInRow> <rowsOfBricks> [seed]");
+            return;
+        }
+        long seed = args.length >= 4 ? Long.parseLong(args[3]) : new Random().nextLong();
+        Level level = generate(Integer.parseInt(args[1]), Integer.parseInt(args[2]), seed,
+                StrategyType.defaultWeights());
+        level.save(Paths.get(args[0]));
+    }
+}
@@ -1,7 +1,22 @@
 package bricker.main;
 
+import bricker.assets.AssetCache;
+import bricker.audio.AudioMixer;
+import bricker.audio.SoundEffect;
 import bricker.brick_strategies.*;
+import bricker.collisions.SweepAndPrune;
+import bricker.collisions.SweepHit;
+import bricker.collisions.TrajectoryPredictor;
+import bricker.collisions.SweptCollision;
 import bricker.gameobjects.*;
+import bricker.levels.Level;
+import bricker.metrics.FramePhase;
+import bricker.metrics.FrameStats;
+import bricker.replay.InputRecorder;
+import bricker.snapshots.SnapshotRing;
+import bricker.snapshots.StateVector;
+import bricker.spectator.SpectatorServer;
+import bricker.util.ObjectPool;
 
 import danogl.GameManager;
 import danogl.GameObject;
@@ -14,8 +29,17 @@ import danogl.gui.rendering.TextRenderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
 
+import javax.management.JMException;
 import java.awt.*;
 import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 /**
@@ -23,7 +47,6 @@ import java.util.Random;
  */
 public class BrickerGameManager extends GameManager {
     private static final int ON = 1;
-    private static final int OFF = 0;
     private static final float THICKNESS_WALL = 10;
     private static final float PADDLE_SPEED = 700;
     private static final float BALL_VELOCITY = 300;
@@ -34,6 +57,17 @@ public class BrickerGameManager extends GameManager {
     private static final int DEFAULT_NUM_ROWS_OF_BRICKS = 8;
     private static final int STRIKES = 3;
     private static final int PERK_PUDDLE_EXPIRATION = 4;
+    private static final int MAX_POOLED_PUCKS = 16;
+    private static final int MAX_POOLED_PERK_PUDDLES = 1;
+    private static final float DEFAULT_PHYSICS_STEP = 1f / 120;
+    private static final int DEFAULT_MAX_SUBSTEPS = 8;
+    private static final int MAX_SWEEP_CONTACTS = 4;
+    private static final int AUDIO_VOICES = 8;
+    private static final int AUDIO_VOICE_MILLIS = 150; // About the length of the collision sound
+    private static final int MIN_SOUND_INTERVAL_MILLIS = 40;
+    private static final int SNAPSHOT_FRAMES = 600; // Ten seconds at 60 frames per second
+    private static final int SNAPSHOT_BYTES = 8 << 20;
+    private static final AssetCache ASSET_CACHE = new AssetCache(); // Shared by all games, survives resets
 
     private Vector2 windowDimensions;
     private int bricksInRow;
@@ -41,11 +75,51 @@ public class BrickerGameManager extends GameManager {
     private WindowController windowController;
     private UserInputListener inputListener;
     private Ball ball;
-    private Counter strikesCount;
-    private Counter cameraSwitch;
-    private Counter bricksCount;
+    private UserPaddle userPaddle;
+    private GameStateStore gameState;
     private int cameraCount;
-    private Counter perkPaddleState; //0: perk paddle doesn't exit. 1+i: exists with i collisions. (0<i<=4)
+    private boolean cameraFollowsBall;
+    private boolean cameraStateChanged;
+    private boolean perkPaddleExpired;
+    private boolean allBricksBroken;
+    private boolean gameEnded;
+    private BrickField brickField;
+    private StaticLayer staticLayer;
+    private CollisionStrategies collisionStrategies;
+    private ObjectPool<PerkPuddle> perkPuddlePool;
+    private PuckLifecycleManager puckLifecycleManager;
+    private GameObjectRegistry gameObjectRegistry;
+    private CommandBuffer commandBuffer;
+    private final List<Ball> ballsInPlay = new ArrayList<>();
+    private FixedTimestep fixedTimestep = new FixedTimestep(DEFAULT_PHYSICS_STEP, DEFAULT_MAX_SUBSTEPS);
+    private final Map<GameObject, Vector2> previousCorners = new IdentityHashMap<>();
+    private final List<GameObject> interpolatedObjects = new ArrayList<>();
+    private final List<Vector2> physicsCorners = new ArrayList<>();
+    private final List<GameObject> culledObjects = new ArrayList<>();
+    private final List<Renderable> culledRenderables = new ArrayList<>();
+    private int culledObjectCount;
+    private volatile int gameObjectCount; // Counted on the game thread, read by the JMX gauge
+    private final List<GameObject> walls = new ArrayList<>();
+    private final SweepHit sweepHit = new SweepHit();
+    private final SweepAndPrune ballBroadphase = new SweepAndPrune(MAX_POOLED_PUCKS);
+    private final SweepAndPrune.PairListener ballPairListener = this::collideBallPair;
+    private boolean ballStorm;
+    private StripCollisionResolver stripCollisionResolver;
+    private SnapshotRing snapshots;
+    private final StateVector snapshotState = new StateVector();
+    private SpectatorServer spectatorServer;
+    private PaddleController paddleController;
+    private final TrajectoryPredictor trajectoryPredictor;
+    private long ballContacts;
+    private final FrameStats frameStats;
+    private final AudioMixer audioMixer = new AudioMixer(AUDIO_VOICES, AUDIO_VOICE_MILLIS,
+            MIN_SOUND_INTERVAL_MILLIS);
+    private final long seed;
+    private final Random gameSeeds; // Seeds one random stream per game, so resets don't repeat the level
+    private Random random;
+    private InputRecorder inputRecorder;
+    private final Level level;
+    private double[] strategyWeights = StrategyType.defaultWeights();
 
     /**
      * Constructs a BrickerGameManager instance with the specified window title, window dimensions, number of bricks in a row, and number of rows of bricks.
@@ -57,10 +131,50 @@ public class BrickerGameManager extends GameManager {
      */
 
     public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int bricksInRow, int rowsOfBricks) {
+        this(windowTitle, windowDimensions, bricksInRow, rowsOfBricks, new Random().nextLong());
+    }
+
+    /**
+     * Constructs a BrickerGameManager instance whose randomness (the level layout and every ball launch)
+     * is fully determined by the given seed.
+     *
+     * @param windowTitle      The title of the game window.
+     * @param windowDimensions The dimensions of the game window.
+     * @param bricksInRow      The number of bricks in a row.
+     * @param rowsOfBricks     The number of rows of bricks.
+     * @param seed             The seed of all randomness in the game.
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int bricksInRow, int rowsOfBricks,
+                              long seed) {
+        this(windowTitle, windowDimensions, bricksInRow, rowsOfBricks, seed, null);
+    }
+
+    /**
+     * Constructs a BrickerGameManager instance that plays a level loaded from a level file.
+     * The level determines the bricks, their collision strategies and the seed of the game.
+     *
+     * @param windowTitle      The title of the game window.
+     * @param windowDimensions The dimensions of the game window.
+     * @param level            The level to play.
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions, Level level) {
+        this(windowTitle, windowDimensions, level.columns(), level.rows(), level.seed(), level);
+    }
+
+    private BrickerGameManager(String windowTitle, Vector2 windowDimensions, int bricksInRow, int rowsOfBricks,
+                               long seed, Level level) {
         super(windowTitle, windowDimensions);
+        this.level = level;
+        this.seed = seed;
+        this.gameSeeds = new Random(seed);
         this.windowDimensions = windowDimensions;
+        this.trajectoryPredictor = new TrajectoryPredictor(THICKNESS_WALL / 2,
+                windowDimensions.x() - THICKNESS_WALL / 2, THICKNESS_WALL / 2);
         this.bricksInRow = bricksInRow;
         this.rowsOfBricks = rowsOfBricks;
+        this.frameStats = new FrameStats(() -> this.gameObjectCount,
+                () -> this.puckLifecycleManager == null ? 0 : getLiveBallCount(),
+                () -> this.gameState == null ? 0 : getBricksLeft(), () -> this.culledObjectCount);
     }
 
     /**
@@ -72,11 +186,23 @@ public class BrickerGameManager extends GameManager {
      * @return A perk puddle object.
      */
     private PerkPuddle createPerkPuddle(ImageReader imageReader, SoundReader soundReader, UserInputListener inputListener) {
-        Renderable paddle = imageReader.readImage("assets/paddle.png", true);
-        PerkPuddle perkPaddle = new PerkPuddle(Vector2.ZERO, PADDLE_SIZE_VEC, paddle, inputListener, PADDLE_SPEED, this.perkPaddleState);
+        Renderable paddle = ASSET_CACHE.readImage(imageReader, "assets/paddle.png", true);
+        return new PerkPuddle(Vector2.ZERO, PADDLE_SIZE_VEC, paddle, inputListener, PADDLE_SPEED,
+                this.gameState.perkPaddleState());
+    }
+
+    /**
+     * Places the perk puddle at the middle of the game area.
+     *
+     * @param perkPaddle The perk puddle to be placed.
+     */
+    private void placePerkPuddle(PerkPuddle perkPaddle) {
         Vector2 location = new Vector2(this.windowDimensions.x() / 2, windowDimensions.y() / 2);
         perkPaddle.setCenter(location);
-        return perkPaddle;
+        perkPaddle.setReleased(false);
+        if (this.paddleController != null) {
+            perkPaddle.setController(this.paddleController);
+        }
     }
 
     /**
@@ -87,11 +213,28 @@ public class BrickerGameManager extends GameManager {
      * @return A puck object.
      */
     private Ball createPuck(ImageReader imageReader, SoundReader soundReader) {
-        Renderable puckImage = imageReader.readImage("assets/mockBall.png", true);
-        Sound collisionSound = soundReader.readSound("assets/Bubble5_4.wav");
-        Ball puck = new Ball(Vector2.ZERO, BALL_SIZE_VEC.mult(0.75f), puckImage, collisionSound); //Todo: maybe change this to puck object?
-        placeBall(windowDimensions.mult(0.5f), puck);
-        return puck;
+        Renderable puckImage = ASSET_CACHE.readImage(imageReader, "assets/mockBall.png", true);
+        SoundEffect collisionSound = this.audioMixer.register(
+                ASSET_CACHE.readSound(soundReader, "assets/Bubble5_4.wav"));
+        return new Ball(Vector2.ZERO, BALL_SIZE_VEC.mult(0.75f), puckImage, collisionSound); //Todo: maybe change this to puck object?
+    }
+
+    /**
+     * Creates the pools the strategy payloads are drawn from when a special brick is hit.
+     * Pucks and perk puddles are only created once they are first needed, and are reused after leaving play.
+     *
+     * @param imageReader   The image reader object.
+     * @param soundReader   The sound reader object.
+     * @param inputListener The user input listener object.
+     */
+    private void createPayloadPools(ImageReader imageReader, SoundReader soundReader,
+                                    UserInputListener inputListener) {
+        ObjectPool<Ball> puckPool = new ObjectPool<>(() -> createPuck(imageReader, soundReader),
+                puck -> placeBall(windowDimensions.mult(0.5f), puck), MAX_POOLED_PUCKS);
+        this.puckLifecycleManager = new PuckLifecycleManager(this.commandBuffer, puckPool,
+                windowDimensions.y());
+        this.perkPuddlePool = new ObjectPool<>(() -> createPerkPuddle(imageReader, soundReader, inputListener),
+                this::placePerkPuddle, MAX_POOLED_PERK_PUDDLES);
     }
 
     /**
@@ -101,11 +244,12 @@ public class BrickerGameManager extends GameManager {
      * @param soundReader The sound reader object used to load the collision sound for the ball.
      */
     private void addBall(ImageReader imageReader, SoundReader soundReader) {
-        Renderable ballImage = imageReader.readImage("assets/ball.png", true);
-        Sound collisionSound = soundReader.readSound("assets/Bubble5_4.wav");
+        Renderable ballImage = ASSET_CACHE.readImage(imageReader, "assets/ball.png", true);
+        SoundEffect collisionSound = this.audioMixer.register(
+                ASSET_CACHE.readSound(soundReader, "assets/Bubble5_4.wav"));
         this.ball = new Ball(Vector2.ZERO, BALL_SIZE_VEC, ballImage, collisionSound);
         placeBall(windowDimensions.mult(0.5f), this.ball);
-        gameObjects().addGameObject(this.ball);
+        this.gameObjectRegistry.addGameObject(this.ball);
     }
 
     /**
@@ -115,16 +259,21 @@ public class BrickerGameManager extends GameManager {
      * @param inputListener The user input listener object for controlling the paddle.
      */
     private void addPaddle(ImageReader imageReader, UserInputListener inputListener) {
-        Renderable paddleImage = imageReader.readImage("assets/paddle.png", true);
-        GameObject userPaddle = new UserPaddle(Vector2.ZERO, PADDLE_SIZE_VEC, paddleImage, inputListener, PADDLE_SPEED);
+        Renderable paddleImage = ASSET_CACHE.readImage(imageReader, "assets/paddle.png", true);
+        PaddleController controller = this.paddleController != null
+                ? this.paddleController : new KeyboardPaddleController(inputListener);
+        this.userPaddle = new UserPaddle(Vector2.ZERO, PADDLE_SIZE_VEC, paddleImage, controller, PADDLE_SPEED);
         Vector2 initialPosPaddle = new Vector2(this.windowDimensions.x() / 2, windowDimensions.y() - 30);
-        userPaddle.setCenter(initialPosPaddle);
-        gameObjects().addGameObject(userPaddle);
+        this.userPaddle.setCenter(initialPosPaddle);
+        this.gameObjectRegistry.addGameObject(this.userPaddle);
     }
 
 
     /**
-     * Adds bricks to the game area.
+     * Adds bricks to the game area, either as laid out by the level or with random collision strategies.
+     * All bricks form one {@link BrickField} in the static objects layer, which the engine does not collide with
+     * the default layer; the field collides balls with its bricks itself. Every strategy type has a single
+     * collision strategy, shared by all bricks of that type.
      *
      * @param imageReader   The image reader object used to load the brick image.
      * @param bricksInRow   The number of bricks in each row.
@@ -134,43 +283,49 @@ public class BrickerGameManager extends GameManager {
      */
     private void addBricks(ImageReader imageReader, float bricksInRow, float rowsOfBricks, SoundReader soundReader,
                            UserInputListener inputListener) {
-        Renderable brickImage = imageReader.readImage("assets/brick.png", true);
+        Renderable brickImage = ASSET_CACHE.readImage(imageReader, "assets/brick.png", true);
         float sizeBrickVecX = (int) ((windowDimensions.x() - 2 * (THICKNESS_WALL)) / bricksInRow);
         float sizeBrickVecY = THICKNESS_BRICK;
         Vector2 sizeBrickVec = new Vector2(sizeBrickVecX, sizeBrickVecY);
+        this.collisionStrategies = new CollisionStrategies(this::createCollisionStrategy);
+        this.brickField = new BrickField(new Vector2(THICKNESS_WALL, THICKNESS_WALL), sizeBrickVec,
+                (int) bricksInRow, (int) rowsOfBricks, brickImage, this.collisionStrategies,
+                this.gameState.bricksLeft());
+        gameObjects().layers().shouldLayersCollide(Layer.DEFAULT, Layer.STATIC_OBJECTS, false);
 
         for (int i = 0; i < rowsOfBricks; i++) {
             for (int j = 0; j < bricksInRow; j++) {
-                float locationX = THICKNESS_WALL + j * sizeBrickVec.x();  // Calculate x-coordinate
-                float locationY = THICKNESS_WALL + i * THICKNESS_BRICK;  // Calculate y-coordinate
-
-                CollisionStrategy collisionStrategy = chooseCollisionStrategy(imageReader, soundReader, inputListener);
-                //Todo Perhaps we should consider extending the input arguments of the chooseCollisionStrategy method
-                // according to the implementation of the others strategies.
-
-                GameObject brick = new Brick(new Vector2(locationX, locationY), sizeBrickVec, brickImage,
-                        collisionStrategy, bricksCount);
-                gameObjects().addGameObject(brick);
+                StrategyType strategyType;
+                if (this.level == null) {
+                    strategyType = StrategyType.choose(this.random, this.strategyWeights);
+                } else if (this.level.hasBrick(i, j)) {
+                    strategyType = this.level.strategyAt(i, j);
+                } else {
+                    continue;
+                }
+                this.brickField.add(i, j, strategyType);
             }
         }
+        gameObjects().addGameObject(this.brickField, Layer.STATIC_OBJECTS);
+        this.staticLayer.setBrickField(this.brickField);
     }
 
     /**
-     * Adds a background image to the game.
+     * Adds a background image to the game's static layer.
      *
      * @param imageReader The image reader object used to load the background image.
      */
     private void addBackground(ImageReader imageReader) {
         // Full background
-        Renderable backgroundImage = imageReader.readImage("assets/DARK_BG2_small.jpeg",
+        Renderable backgroundImage = ASSET_CACHE.readImage(imageReader, "assets/DARK_BG2_small.jpeg",
                 false);
-        GameObject background = new GameObject(Vector2.ZERO, windowDimensions, backgroundImage);
-        gameObjects().addGameObject(background, Layer.BACKGROUND);
+        this.staticLayer.add(backgroundImage, Vector2.ZERO, windowDimensions);
     }
 
     /**
      * Adds walls to the game area.
-     * Four walls are added: top, left, right, and bottom.
+     * Four walls are added: top, left, right, and bottom. The walls are drawn by the static layer, so the
+     * game objects that collide with the balls have no renderable of their own.
      *
      * @param windowDimensionsX The width of the game window.
      * @param windowDimensionsY The height of the game window.
@@ -180,21 +335,26 @@ public class BrickerGameManager extends GameManager {
     private void addWalls(float windowDimensionsX, float windowDimensionsY, float thickness, Color wallColor) {
         RectangleRenderable color = new RectangleRenderable(wallColor);
         // top wall
-        GameObject topWall = new GameObject(Vector2.ZERO, new Vector2(windowDimensionsX, thickness), color);
+        GameObject topWall = new GameObject(Vector2.ZERO, new Vector2(windowDimensionsX, thickness), null);
         topWall.setCenter(new Vector2(windowDimensionsX / 2, 0));
         gameObjects().addGameObject(topWall);
+        this.walls.add(topWall);
         // left wall
-        GameObject leftWall = new GameObject(Vector2.ZERO, new Vector2(thickness, windowDimensionsY), color);
+        GameObject leftWall = new GameObject(Vector2.ZERO, new Vector2(thickness, windowDimensionsY), null);
         leftWall.setCenter(new Vector2(0, windowDimensionsY / 2));
         gameObjects().addGameObject(leftWall);
+        this.walls.add(leftWall);
         // right wall
-        GameObject rightWall = new GameObject(Vector2.ZERO, new Vector2(thickness, windowDimensionsY), color);
+        GameObject rightWall = new GameObject(Vector2.ZERO, new Vector2(thickness, windowDimensionsY), null);
         rightWall.setCenter(new Vector2(windowDimensionsX, windowDimensionsY / 2));
         gameObjects().addGameObject(rightWall);
-        // bottom wall background
-        GameObject botWall = new GameObject(Vector2.ZERO, new Vector2(windowDimensionsX, thickness), color);
-        botWall.setCenter(new Vector2(windowDimensionsX / 2, windowDimensionsY));
-        gameObjects().addGameObject(botWall, Layer.BACKGROUND);
+        this.walls.add(rightWall);
+        for (GameObject wall : this.walls) {
+            this.staticLayer.add(color, wall.getTopLeftCorner(), wall.getDimensions());
+        }
+        // bottom wall background, drawn only
+        this.staticLayer.add(color, new Vector2(0, windowDimensionsY - thickness / 2),
+                new Vector2(windowDimensionsX, thickness));
     }
 
     /**
@@ -206,19 +366,19 @@ public class BrickerGameManager extends GameManager {
     private void placeBall(Vector2 centerVec, Ball ballObject) {
         ballObject.setVelocity(Vector2.DOWN.mult(BALL_VELOCITY));
         ballObject.setCenter(centerVec);
+        this.previousCorners.remove(ballObject); // Drawn where it is placed, not swept across the field
 
         //Generates random initial velocity direction for a ball
-        Random rand = new Random();
-        double angle = rand.nextDouble() * Math.PI;
+        double angle = this.random.nextDouble() * Math.PI;
         float ballVelX = (float) Math.cos(angle) * BALL_VELOCITY;
         float ballVelY = (float) Math.sin(angle) * BALL_VELOCITY;
         ballObject.setVelocity(new Vector2(ballVelX, ballVelY));
     }
 
     /**
-     * Keeps the user paddle and balls in bounds.
+     * Keeps the user paddle in bounds.
      * If the user paddle goes out of bounds, it moves it back into bounds.
-     * If a ball goes out of bounds, it removes it from the game.
+     * Pucks that go out of bounds are handled by the {@link PuckLifecycleManager}.
      */
     private void checkBounds() {
         /*
@@ -227,74 +387,238 @@ public class BrickerGameManager extends GameManager {
         float leftBounds = this.windowDimensions.x() - THICKNESS_WALL;
         float rightBounds = THICKNESS_BRICK;
         float upperBounds = THICKNESS_BRICK;
-        float bottomBounds = windowDimensions.y() - THICKNESS_WALL;
 
-        for (GameObject gameObject : gameObjects()) {
-            if (gameObject instanceof UserPaddle) {
-                if (gameObject.getTopLeftCorner().x() < rightBounds) {
-                    Vector2 movementBackLeft = new Vector2(PADDLE_SPEED / 100, 0);
-                    gameObject.setTopLeftCorner(gameObject.getTopLeftCorner().add(movementBackLeft));
+        for (UserPaddle paddle : this.gameObjectRegistry.objectsOfType(UserPaddle.class)) {
+            if (paddle.getTopLeftCorner().x() < rightBounds) {
+                Vector2 movementBackLeft = new Vector2(PADDLE_SPEED / 100, 0);
+                paddle.setTopLeftCorner(paddle.getTopLeftCorner().add(movementBackLeft));
+            }
+            if (paddle.getTopLeftCorner().x() + PADDLE_SIZE_VEC.x() > leftBounds) {
+                Vector2 movementBackRight = new Vector2(-1 * PADDLE_SPEED / 100, 0);
+                paddle.setTopLeftCorner(paddle.getTopLeftCorner().add(movementBackRight));
+            }
+        }
+    }
+
+    /**
+     * Sweeps every ball in play along the path it is about to move this step, so fast balls cannot tunnel
+     * through bricks, walls or paddles. A ball that would pass through something is moved to the exact
+     * contact point, bounced, and given the rest of the step along its new velocity.
+     * Walls and paddles the ball would still overlap at the end of the step are left to the engine's
+     * discrete collisions, so they aren't bounced off twice.
+     *
+     * @param stepTime The length of the step, in seconds.
+     */
+    private void sweepBalls(float stepTime) {
+        this.ballsInPlay.clear();
+        this.ballsInPlay.addAll(this.gameObjectRegistry.objectsOfType(Ball.class));
+        for (Ball ballObject : this.ballsInPlay) {
+            Vector2 displacement = ballObject.getVelocity().mult(stepTime);
+            float remaining = 1; // Fraction of the step not travelled yet
+            boolean contacted = false;
+            for (int i = 0; i < MAX_SWEEP_CONTACTS; i++) {
+                this.sweepHit.reset();
+                this.brickField.sweep(ballObject, displacement, this.sweepHit);
+                for (GameObject wall : this.walls) {
+                    SweptCollision.sweep(ballObject, displacement, wall, this.sweepHit);
+                }
+                for (UserPaddle paddle : this.gameObjectRegistry.objectsOfType(UserPaddle.class)) {
+                    SweptCollision.sweep(ballObject, displacement, paddle, this.sweepHit);
+                }
+                GameObject target = this.sweepHit.target();
+                if (target == null || (target != this.brickField && overlapsAfter(ballObject, displacement, target))) {
+                    break;
                 }
-                if (gameObject.getTopLeftCorner().x() + PADDLE_SIZE_VEC.x() > leftBounds) {
-                    Vector2 movementBackRight = new Vector2(-1 * PADDLE_SPEED / 100, 0);
-                    gameObject.setTopLeftCorner(gameObject.getTopLeftCorner().add(movementBackRight));
+                contacted = true;
+                ballObject.setCenter(ballObject.getCenter().add(displacement.mult(this.sweepHit.time())));
+                Vector2 normal = this.sweepHit.normal();
+                if (ballObject.getVelocity().dot(normal) < 0) {
+                    ballObject.bounce(target, normal);
                 }
+                if (target == this.brickField) {
+                    this.brickField.hit(this.sweepHit.part(), ballObject);
+                }
+                // The hit time is a fraction of this displacement, which is already only the rest of the step
+                remaining *= 1 - this.sweepHit.time();
+                displacement = ballObject.getVelocity().mult(stepTime * remaining);
+            }
+            if (contacted) {
+                // The engine moves the ball by a whole step of its velocity; leave it at the swept end instead
+                Vector2 engineMove = ballObject.getVelocity().mult(stepTime);
+                ballObject.setCenter(ballObject.getCenter().add(displacement).subtract(engineMove));
             }
-            if (gameObject instanceof Ball && !gameObject.equals(this.ball) && gameObject.getTopLeftCorner().y() > bottomBounds)
-                gameObjects().removeGameObject(gameObject);
         }
     }
 
+    /**
+     * Checks whether a ball would overlap a game object after moving by the given displacement.
+     *
+     * @param ballObject   The ball.
+     * @param displacement How far the ball moves.
+     * @param gameObject   The game object.
+     * @return True if the two would overlap.
+     */
+    private static boolean overlapsAfter(Ball ballObject, Vector2 displacement, GameObject gameObject) {
+        Vector2 a = ballObject.getTopLeftCorner().add(displacement);
+        Vector2 b = gameObject.getTopLeftCorner();
+        return a.x() < b.x() + gameObject.getDimensions().x() && b.x() < a.x() + ballObject.getDimensions().x()
+                && a.y() < b.y() + gameObject.getDimensions().y() && b.y() < a.y() + ballObject.getDimensions().y();
+    }
+
+    /**
+     * Collides every ball in play with the bricks, through the brick grid, on several threads if so set.
+     */
+    private void resolveBrickCollisions() {
+        // Copied first, since hitting a brick may spawn new pucks
+        this.ballsInPlay.clear();
+        this.ballsInPlay.addAll(this.gameObjectRegistry.objectsOfType(Ball.class));
+        if (this.stripCollisionResolver != null) {
+            this.stripCollisionResolver.resolve(this.brickField, this.ballsInPlay);
+            return;
+        }
+        for (Ball ballObject : this.ballsInPlay) {
+            this.brickField.resolveCollisions(ballObject);
+        }
+    }
+
+    /**
+     * Collides the balls in play with each other. Pairs that may touch are found by sweep and prune on the
+     * x axis, so a storm of balls costs about linear time unless they are all crowded together. The engine never
+     * collides balls with each other, so this is the only way they bounce off each other.
+     * Must be called after {@link #resolveBrickCollisions()}, which lists the balls in play.
+     */
+    private void collideBalls() {
+        this.ballBroadphase.clear();
+        for (Ball ballObject : this.ballsInPlay) {
+            Vector2 topLeft = ballObject.getTopLeftCorner();
+            Vector2 bottomRight = topLeft.add(ballObject.getDimensions());
+            this.ballBroadphase.add(topLeft.x(), topLeft.y(), bottomRight.x(), bottomRight.y());
+        }
+        this.ballBroadphase.findPairs(this.ballPairListener);
+    }
+
+    /**
+     * Bounces two balls whose bounds overlap off each other, if they are touching and moving together.
+     * The balls are treated as having equal masses, so they swap the parts of their velocities along the line
+     * between their centers, and are pushed apart until they no longer overlap.
+     *
+     * @param first  The index of one ball in the balls in play.
+     * @param second The index of the other ball in the balls in play.
+     */
+    private void collideBallPair(int first, int second) {
+        Ball firstBall = this.ballsInPlay.get(first);
+        Ball secondBall = this.ballsInPlay.get(second);
+        Vector2 between = secondBall.getCenter().subtract(firstBall.getCenter());
+        float distance = between.magnitude();
+        float contactDistance = (firstBall.getDimensions().x() + secondBall.getDimensions().x()) / 2;
+        if (distance >= contactDistance) {
+            return;
+        }
+        this.ballContacts++;
+        // Pucks are released on top of each other, so balls with the same center are pushed apart sideways
+        Vector2 normal = distance == 0 ? Vector2.RIGHT : between.mult(1 / distance);
+        Vector2 separation = normal.mult((contactDistance - distance) / 2);
+        firstBall.setCenter(firstBall.getCenter().subtract(separation));
+        secondBall.setCenter(secondBall.getCenter().add(separation));
+        float approachSpeed = firstBall.getVelocity().subtract(secondBall.getVelocity()).dot(normal);
+        if (approachSpeed > 0) {
+            Vector2 exchange = normal.mult(approachSpeed);
+            firstBall.setVelocity(firstBall.getVelocity().subtract(exchange));
+            secondBall.setVelocity(secondBall.getVelocity().add(exchange));
+        }
+    }
+
+    /**
+     * Subscribes the game manager to the changes of the game state it reacts to.
+     * The flags set here are handled once per frame by {@link #update(float)}, so nothing is polled on frames
+     * where the state did not change.
+     */
+    private void subscribeToGameState() {
+        this.gameState.cameraSwitch().subscribe((oldValue, newValue) -> this.cameraStateChanged = true);
+        this.gameState.perkPaddleState().subscribe((oldValue, newValue) -> {
+            if (newValue == PERK_PUDDLE_EXPIRATION) {
+                this.perkPaddleExpired = true;
+            }
+        });
+        this.gameState.bricksLeft().subscribe((oldValue, newValue) -> {
+            // Bricks only break on collisions, so this is when the ball's collision counter may have moved
+            this.cameraStateChanged |= this.cameraFollowsBall;
+            this.allBricksBroken = newValue == 0;
+        });
+        this.allBricksBroken = this.gameState.bricksLeft().value() == 0;
+    }
+
     /**
      * Checks and manages the state of the camera based on specific conditions.
-     * If the camera switch is ON and the camera count is 0, a new camera is set
+     * If the camera switch is ON and the camera doesn't follow the ball yet, a new camera is set
      * to follow the ball. The camera count is updated to the ball's collision counter.
      * If the difference between the ball's collision counter and the camera count is 4,
      * the camera is set to null, camera count is reset to 0, and the camera switch is decremented.
      */
 
     private void checkCameraState() {
-        if (this.cameraSwitch.value() == ON && this.cameraCount == 0) {
+        this.cameraStateChanged = false;
+        if (this.gameState.cameraSwitch().value() == ON && !this.cameraFollowsBall) {
             setCamera(new Camera(this.ball, Vector2.ZERO, this.windowDimensions.mult(1.2f),
                     this.windowDimensions));
             this.cameraCount = this.ball.getCollisionCounter();
+            this.cameraFollowsBall = true;
             return;
         }
-        if (this.ball.getCollisionCounter() - cameraCount == 4) {
+        if (this.cameraFollowsBall && this.ball.getCollisionCounter() - cameraCount == 4) {
             setCamera(null);
             this.cameraCount = 0;
-            this.cameraSwitch.decrement();
+            this.cameraFollowsBall = false;
+            this.gameState.cameraSwitch().decrement();
         }
     }
 
+    /**
+     * Checks and manages the state of the perk puddle.
+     * If the perk puddle state indicates expiration, it removes all perk puddle game objects
+     * from the game and resets the perk paddle state, even if no perk puddle is left to remove.
+     */
     private void checkPerkPaddleState() {
-        if (perkPaddleState.value() == PERK_PUDDLE_EXPIRATION) {
-            for (GameObject gameObject : gameObjects()) {
-                if (gameObject instanceof PerkPuddle) {
-                    this.gameObjects().removeGameObject(gameObject);
-                    this.perkPaddleState.reset();
-                }
+        this.perkPaddleExpired = false;
+        if (this.gameState.perkPaddleState().value() == PERK_PUDDLE_EXPIRATION) {
+            for (PerkPuddle perkPuddle : new ArrayList<>(this.gameObjectRegistry.objectsOfType(PerkPuddle.class))) {
+                releasePerkPuddle(perkPuddle);
             }
+            this.gameState.perkPaddleState().reset();
         }
     }
 
     /**
-     * Checks and manages the state of the perk puddle.
-     * If the perk puddle state indicates expiration, it removes all perk puddle game objects
-     * from the game and resets the perk paddle state.
+     * Takes a perk puddle out of the game at the end of the frame and returns it to its pool. It ignores
+     * collisions until then.
+     *
+     * @param perkPuddle The perk puddle to release.
+     */
+    private void releasePerkPuddle(PerkPuddle perkPuddle) {
+        perkPuddle.setReleased(true);
+        this.commandBuffer.removeGameObject(perkPuddle);
+        this.perkPuddlePool.release(perkPuddle);
+    }
+
+    /**
+     * Checks whether the game has ended.
+     * The player loses when the ball falls beneath the paddle with no strikes left, and wins when
+     * all bricks are broken. Neither happens in a ball storm.
      */
     private void checkForGameEnd() {
         double ballHeight = this.ball.getCenter().y();
         // Ball reached beneath user's paddle
         if (ballHeight > windowDimensions.y() - THICKNESS_WALL) {
-            this.strikesCount.decrement(); // -1 life
-            if (this.strikesCount.value() == 0) {
+            if (!this.ballStorm) {
+                this.gameState.strikes().decrement(); // -1 life
+            }
+            if (this.gameState.strikes().value() == 0) {
                 endGame("You've lost ");
             } else
                 placeBall(windowDimensions.mult(0.5f), this.ball);
         }
         // Broke all Bricks indicates a win
-        if (bricksCount.value() == 0 || this.inputListener.isKeyPressed(KeyEvent.VK_W)) {
+        if (!this.ballStorm && (this.allBricksBroken || this.inputListener.isKeyPressed(KeyEvent.VK_W))) {
             endGame("You've won ");
         }
     }
@@ -308,6 +632,8 @@ public class BrickerGameManager extends GameManager {
      * @param prompt The prompt to display to the user.
      */
     private void endGame(String prompt) {
+        this.gameEnded = true;
+        stopRecording();
         prompt += "Play again?";
         if (windowController.openYesNoDialog(prompt))
             windowController.resetGame();
@@ -316,46 +642,61 @@ public class BrickerGameManager extends GameManager {
     }
 
     /**
-     * Chooses a collision strategy based on a random number.
+     * Creates a collision strategy of the given type.
      * The collision strategy determines how collisions between game objects are handled.
      *
-     * @param imageReader   The image reader object.
-     * @param soundReader   The sound reader object.
-     * @param inputListener The user input listener object.
+     * @param strategyType The type of collision strategy.
      * @return A collision strategy to be used in the game.
      */
-    private CollisionStrategy chooseCollisionStrategy(ImageReader imageReader, SoundReader soundReader,
-                                                      UserInputListener inputListener) {
-        Random rand = new Random();
+    private CollisionStrategy createCollisionStrategy(StrategyType strategyType) {
         CollisionStrategy collisionStrategy;
-        double randomNumber = rand.nextDouble();
-        int caseNumber = (int) (randomNumber * 10);
-        switch (caseNumber) {
-            case 0:
-                Ball puck1 = createPuck(imageReader, soundReader);
-                Ball puck2 = createPuck(imageReader, soundReader);
-                collisionStrategy = new NewPucksCollisionStrategy(gameObjects(), puck1, puck2);
+        switch (strategyType) {
+            case PUCKS:
+                collisionStrategy = new NewPucksCollisionStrategy(this.commandBuffer, this.puckLifecycleManager);
                 break;
-            case 1:
-                PerkPuddle perkPuddle = createPerkPuddle(imageReader, soundReader, inputListener);
-                collisionStrategy = new PerkPuddleCollisionStrategy(gameObjects(), perkPuddle, this.perkPaddleState);
+            case PERK_PADDLE:
+                collisionStrategy = new PerkPuddleCollisionStrategy(this.commandBuffer, this.perkPuddlePool,
+                        this.gameState.perkPaddleState());
                 break;
-            case 2:
-                collisionStrategy = new ChangeCameraCollisionStrategy(gameObjects(), this.cameraSwitch, this.ball);
+            case CAMERA:
+                collisionStrategy = new ChangeCameraCollisionStrategy(this.commandBuffer, this.gameState.cameraSwitch(),
+                        this.ball);
                 break;
-            case 3: //TODO: should implement AddStrikeCollisionStrategy
-                collisionStrategy = new AddStrikeCollisionStrategy(gameObjects());
+            case ADD_STRIKE: //TODO: should implement AddStrikeCollisionStrategy
+                collisionStrategy = new AddStrikeCollisionStrategy(this.commandBuffer);
                 break;
-            case 4: //TODO: should implement DualBehaviorCollisionStrategy
-                collisionStrategy = new DualBehaviorCollisionStrategy(gameObjects());
+            case DUAL: //TODO: should implement DualBehaviorCollisionStrategy
+                collisionStrategy = new DualBehaviorCollisionStrategy(this.commandBuffer);
                 break;
-            default: //0.5 percentages change to get BasicCollisionStrategy
-                collisionStrategy = new BasicCollisionStrategy(gameObjects());
+            default:
+                collisionStrategy = new BasicCollisionStrategy(this.commandBuffer);
                 break;
         }
         return collisionStrategy;
     }
 
+    /**
+     * Sets how often each collision strategy is chosen for a brick. Takes effect from the next level built.
+     *
+     * @param weights The relative weight of every strategy type, in {@link StrategyType} order.
+     */
+    public void setStrategyWeights(double[] weights) {
+        if (weights.length != StrategyType.values().length) {
+            throw new IllegalArgumentException("Expected one weight per strategy type");
+        }
+        this.strategyWeights = weights.clone();
+    }
+
+    /**
+     * Returns how many times bricks with the given type of strategy were hit in the current game.
+     *
+     * @param strategyType The strategy type.
+     * @return The number of hits.
+     */
+    public int getStrategyTriggerCount(StrategyType strategyType) {
+        return this.brickField.triggerCount(strategyType);
+    }
+
     /**
      * Generates a graphic display showing the number of strikes left using heart images.
      * The number of heart images displayed represents the number of strikes left.
@@ -365,13 +706,13 @@ public class BrickerGameManager extends GameManager {
      * @param imageReader The image reader object used to load the heart image.
      */
     private void generateGraphicStrikesDisplay(ImageReader imageReader) {
-        Renderable heartImage = imageReader.readImage("assets/heart.png", true);
+        Renderable heartImage = ASSET_CACHE.readImage(imageReader, "assets/heart.png", true);
         // calculation the dimensions of the heart
         float heartWidth = (int) ((windowDimensions.x() / 6) / STRIKES);
         float heartHeight = (int) ((windowDimensions.y() / 6) / STRIKES);
         Vector2 heartDim = new Vector2(heartWidth, heartHeight);
         Vector2 strikesGraphicDim = new Vector2(heartWidth * STRIKES, heartHeight);
-        StrikesGraphic strikesGraphic = new StrikesGraphic(strikesGraphicDim, this.windowDimensions, heartDim, heartImage, gameObjects(), this.strikesCount);
+        StrikesGraphic strikesGraphic = new StrikesGraphic(strikesGraphicDim, this.windowDimensions, heartDim, heartImage, gameObjects(), this.gameState.strikes());
         gameObjects().addGameObject(strikesGraphic);
     }
 
@@ -387,7 +728,7 @@ public class BrickerGameManager extends GameManager {
         Vector2 strikesNumericDim = new Vector2(20, 20);
         Vector2 strikesNumericLocation = new Vector2(10, this.windowDimensions.y() - 100);
         // Create a StrikesNumeric object to represent the numeric display
-        StrikesNumeric strikesNumeric = new StrikesNumeric(strikesNumericLocation, strikesNumericDim, displayNumber, gameObjects(), this.strikesCount);
+        StrikesNumeric strikesNumeric = new StrikesNumeric(strikesNumericLocation, strikesNumericDim, displayNumber, gameObjects(), this.gameState.strikes());
         gameObjects().addGameObject(strikesNumeric, Layer.UI);
     }
 
@@ -405,36 +746,634 @@ public class BrickerGameManager extends GameManager {
                                UserInputListener inputListener, WindowController windowController) {
         super.initializeGame(imageReader, soundReader, inputListener, windowController);
         //Creates game objects:
-        this.strikesCount = new Counter(STRIKES);
-        this.bricksCount = new Counter(0);
-        this.perkPaddleState = new Counter(0);
-        this.cameraSwitch = new Counter(OFF);
+        this.random = new Random(this.gameSeeds.nextLong());
+        this.gameState = new GameStateStore(STRIKES);
         this.cameraCount = 0;
+        this.cameraFollowsBall = false;
+        this.cameraStateChanged = false;
+        this.perkPaddleExpired = false;
+        this.gameEnded = false;
         this.windowController = windowController;
         this.inputListener = inputListener;
+        this.gameObjectRegistry = new GameObjectRegistry(gameObjects());
+        this.commandBuffer = new CommandBuffer(this.gameObjectRegistry);
+        if (this.snapshots != null) {
+            this.snapshots.clear(); // A reset game can't be rewound into the previous one
+        }
+        this.walls.clear();
+        this.staticLayer = new StaticLayer(this.windowDimensions);
+        gameObjects().addGameObject(this.staticLayer, Layer.BACKGROUND);
         addBall(imageReader, soundReader);
         addPaddle(imageReader, inputListener);
+        createPayloadPools(imageReader, soundReader, inputListener);
         addBricks(imageReader, this.bricksInRow, this.rowsOfBricks, soundReader, inputListener);
         addBackground(imageReader);
         generateGraphicStrikesDisplay(imageReader);
         generateNumericStrikesDisplay();
         addWalls(windowDimensions.x(), windowDimensions.y(), THICKNESS_WALL, Color.BLACK);
+        subscribeToGameState();
+        this.gameObjectCount = countGameObjects();
+    }
+
+    /**
+     * Sets the fixed physics step the game advances by, regardless of the frame rate.
+     *
+     * @param step        The length of a physics step, in seconds.
+     * @param maxSubsteps The maximum number of physics steps run in a single frame.
+     */
+    public void setFixedTimestep(float step, int maxSubsteps) {
+        this.fixedTimestep = new FixedTimestep(step, maxSubsteps);
     }
 
     /**
      * Updates the game state for the current frame.
+     * The frame time is split into fixed physics steps, so a slow frame cannot move a ball far enough to
+     * skip a brick, and the results don't depend on the frame rate.
      *
      * @param deltaTime The time elapsed, in seconds, since the last frame.
      *                  Can be used to determine changes in game state based on time.
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
+        long frameStart = System.nanoTime();
+        if (this.inputRecorder != null) {
+            this.inputRecorder.recordFrame(deltaTime, this.inputListener);
+        }
+        int steps = this.fixedTimestep.advance(deltaTime);
+        try {
+            for (int i = 0; i < steps && !this.gameEnded; i++) {
+                if (i == steps - 1) {
+                    recordPreviousCorners();
+                }
+                step(this.fixedTimestep.step());
+            }
+            this.commandBuffer.flush();
+        } catch (RuntimeException e) {
+            dumpSnapshots();
+            throw e;
+        }
+        this.gameObjectCount = countGameObjects();
+        this.audioMixer.endFrame();
+        if (this.snapshots != null || this.spectatorServer != null) {
+            long snapshotStart = System.nanoTime();
+            if (this.snapshots != null) {
+                captureSnapshot();
+            } else {
+                writeState(this.snapshotState);
+            }
+            if (this.spectatorServer != null) {
+                this.spectatorServer.publish(this.snapshotState);
+            }
+            this.frameStats.record(FramePhase.SNAPSHOT, snapshotStart);
+        }
+        this.frameStats.record(FramePhase.FRAME, frameStart);
+    }
+
+    /**
+     * Keeps a snapshot of the game state after every frame from now on, for {@link #rewind(int)}, saving and
+     * crash dumps.
+     *
+     * @param maxFrames     The most frames kept.
+     * @param capacityBytes The memory the delta-encoded frames are kept in.
+     */
+    public void enableSnapshots(int maxFrames, int capacityBytes) {
+        this.snapshots = new SnapshotRing(maxFrames, capacityBytes, this.bricksInRow, this.rowsOfBricks);
+    }
+
+    /**
+     * Streams the game state after every frame from now on to spectators in other processes on this machine.
+     * The game never waits for a spectator: one that falls behind misses frames.
+     *
+     * @param address The loopback port or the Unix domain socket to listen for spectators on.
+     * @return The spectator server.
+     * @throws IOException If the address can't be listened on.
+     */
+    public SpectatorServer startSpectatorServer(SocketAddress address) throws IOException {
+        this.spectatorServer = new SpectatorServer(address);
+        return this.spectatorServer;
+    }
+
+    /**
+     * Returns the server streaming the game to spectators.
+     *
+     * @return The spectator server, or null if it isn't started.
+     */
+    public SpectatorServer getSpectatorServer() {
+        return this.spectatorServer;
+    }
+
+    /**
+     * Returns the snapshots of the last frames.
+     *
+     * @return The snapshots, or null if they are not enabled.
+     */
+    public SnapshotRing getSnapshots() {
+        return this.snapshots;
+    }
+
+    /**
+     * Takes a snapshot of the game state now. Called after every frame once snapshots are enabled.
+     *
+     * @throws IllegalStateException If snapshots are not enabled.
+     */
+    public void captureSnapshot() {
+        requireSnapshots();
+        writeState(this.snapshotState);
+        this.snapshots.capture(this.snapshotState);
+    }
+
+    /**
+     * Rewinds the game to the state it was in some frames ago, as far back as the snapshots reach.
+     * The rewound frames are forgotten, and the game carries on from the restored state. Randomness is not
+     * rewound, so balls launched afterwards may differ from the first time.
+     *
+     * @param frames The number of frames to go back.
+     * @return The number of frames actually gone back.
+     * @throws IllegalStateException If snapshots are not enabled.
+     */
+    public int rewind(int frames) {
+        requireSnapshots();
+        int rewound = Math.min(frames, this.snapshots.maxRewind());
+        this.snapshots.discardNewest(rewound);
+        this.snapshots.rewind(0, this.snapshotState);
+        readState(this.snapshotState);
+        return rewound;
+    }
+
+    /**
+     * Saves the snapshots of the last frames to a file.
+     *
+     * @param path The file to write.
+     * @throws IOException           If the file can't be written.
+     * @throws IllegalStateException If snapshots are not enabled.
+     */
+    public void saveSnapshots(Path path) throws IOException {
+        requireSnapshots();
+        this.snapshots.save(path);
+    }
+
+    /**
+     * Restores the game to the latest state saved in a snapshot file, keeping the saved frames to rewind
+     * through. The file must come from a game with the same wall.
+     *
+     * @param path The file to read.
+     * @throws IOException If the file can't be read, isn't a snapshot file, or comes from another wall.
+     */
+    public void restoreSnapshots(Path path) throws IOException {
+        SnapshotRing loaded = SnapshotRing.load(path);
+        if (loaded.wallColumns() != this.bricksInRow || loaded.wallRows() != this.rowsOfBricks) {
+            throw new IOException(path + " comes from a wall of " + loaded.wallColumns() + "x"
+                    + loaded.wallRows() + " bricks, not " + this.bricksInRow + "x" + this.rowsOfBricks);
+        }
+        loaded.rewind(0, this.snapshotState);
+        readState(this.snapshotState);
+        this.snapshots = loaded;
+    }
+
+    /**
+     * Fails with a clear message when snapshots are needed but not enabled.
+     */
+    private void requireSnapshots() {
+        if (this.snapshots == null) {
+            throw new IllegalStateException("Snapshots are not enabled; call enableSnapshots first");
+        }
+    }
+
+    /**
+     * Writes the snapshots to a crash dump file in the working directory, if they are enabled.
+     * A failure to write is reported but not thrown, so it doesn't hide the crash being dumped.
+     */
+    private void dumpSnapshots() {
+        if (this.snapshots == null) {
+            return;
+        }
+        Path path = Paths.get("bricker-crash-" + System.currentTimeMillis() + ".snap");
+        try {
+            this.snapshots.save(path);
+            System.err.println("Crash snapshots written to " + path.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Crash snapshots are not written: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Flattens the game state into a snapshot state: the counters, the camera, the paddles, the wall, and the
+     * position, velocity and collision counter of the main ball and every puck.
+     *
+     * @param state The state to write into.
+     */
+    public void writeState(StateVector state) {
+        state.clear();
+        state.add(this.gameState.strikes().value());
+        state.add(this.gameState.perkPaddleState().value());
+        state.add(this.gameState.cameraSwitch().value());
+        state.add(this.cameraFollowsBall ? 1 : 0);
+        state.add(this.cameraCount);
+        state.addFloat(this.userPaddle.getTopLeftCorner().x());
+        PerkPuddle perkPuddle = findPerkPuddle();
+        state.add(perkPuddle != null ? 1 : 0);
+        state.addFloat(perkPuddle != null ? perkPuddle.getTopLeftCorner().x() : 0);
+        this.brickField.writeAlive(state);
+        writeBall(state, this.ball);
+        int pucks = this.puckLifecycleManager.livePuckCount();
+        state.add(pucks);
+        for (int i = 0; i < pucks; i++) {
+            writeBall(state, this.puckLifecycleManager.livePuck(i));
+        }
+    }
+
+    /**
+     * Restores the game state from a snapshot state written by {@link #writeState(StateVector)}.
+     * Pucks and the perk paddle are taken from or returned to their pools to match the snapshot.
+     *
+     * @param state The state to read.
+     */
+    private void readState(StateVector state) {
+        int i = 0;
+        restoreCounter(this.gameState.strikes(), state.get(i++));
+        restoreCounter(this.gameState.perkPaddleState(), state.get(i++));
+        restoreCounter(this.gameState.cameraSwitch(), state.get(i++));
+        boolean followsBall = state.get(i++) == 1;
+        this.cameraCount = state.get(i++);
+        this.userPaddle.setTopLeftCorner(new Vector2(state.getFloat(i++), this.userPaddle.getTopLeftCorner().y()));
+        boolean hasPerkPuddle = state.get(i++) == 1;
+        float perkPuddleX = state.getFloat(i++);
+        PerkPuddle perkPuddle = findPerkPuddle();
+        if (hasPerkPuddle && perkPuddle == null) {
+            perkPuddle = this.perkPuddlePool.acquire();
+            this.commandBuffer.addGameObject(perkPuddle);
+        } else if (!hasPerkPuddle && perkPuddle != null) {
+            releasePerkPuddle(perkPuddle);
+        }
+        if (hasPerkPuddle) {
+            perkPuddle.setTopLeftCorner(new Vector2(perkPuddleX, perkPuddle.getTopLeftCorner().y()));
+        }
+        i = this.brickField.readAlive(state, i);
+        i = readBall(state, i, this.ball);
+        int pucks = state.get(i++);
+        this.puckLifecycleManager.trimTo(pucks);
+        while (this.puckLifecycleManager.livePuckCount() < pucks) {
+            this.puckLifecycleManager.spawn();
+        }
+        for (int puck = 0; puck < pucks; puck++) {
+            i = readBall(state, i, this.puckLifecycleManager.livePuck(puck));
+        }
+        this.commandBuffer.flush();
+        if (followsBall != this.cameraFollowsBall) {
+            setCamera(followsBall ? new Camera(this.ball, Vector2.ZERO, this.windowDimensions.mult(1.2f),
+                    this.windowDimensions) : null);
+            this.cameraFollowsBall = followsBall;
+        }
+        this.cameraStateChanged = false;
+        this.perkPaddleExpired = this.gameState.perkPaddleState().value() == PERK_PUDDLE_EXPIRATION;
+        recordPreviousCorners(); // Nothing to interpolate from across a jump
+    }
+
+    private PerkPuddle findPerkPuddle() {
+        for (PerkPuddle perkPuddle : this.gameObjectRegistry.objectsOfType(PerkPuddle.class)) {
+            return perkPuddle;
+        }
+        return null;
+    }
+
+    private static void writeBall(StateVector state, Ball ballObject) {
+        state.addFloat(ballObject.getTopLeftCorner().x());
+        state.addFloat(ballObject.getTopLeftCorner().y());
+        state.addFloat(ballObject.getVelocity().x());
+        state.addFloat(ballObject.getVelocity().y());
+        state.add(ballObject.getCollisionCounter());
+    }
+
+    private static int readBall(StateVector state, int offset, Ball ballObject) {
+        ballObject.setTopLeftCorner(new Vector2(state.getFloat(offset), state.getFloat(offset + 1)));
+        ballObject.setVelocity(new Vector2(state.getFloat(offset + 2), state.getFloat(offset + 3)));
+        ballObject.setCollisionCounter(state.get(offset + 4));
+        return offset + 5;
+    }
+
+    private static void restoreCounter(Counter counter, int value) {
+        counter.increaseBy(value - counter.value());
+    }
+
+    /**
+     * Advances the game state by a single physics step.
+     *
+     * @param stepTime The length of the step, in seconds.
+     */
+    private void step(float stepTime) {
+        long phaseStart = System.nanoTime();
+        sweepBalls(stepTime);
+        phaseStart = this.frameStats.record(FramePhase.SWEEP, phaseStart);
+        super.update(stepTime);
+        phaseStart = this.frameStats.record(FramePhase.ENGINE_UPDATE, phaseStart);
+        resolveBrickCollisions();
+        phaseStart = this.frameStats.record(FramePhase.BRICK_COLLISIONS, phaseStart);
+        if (this.ballStorm) {
+            collideBalls();
+        }
+        phaseStart = this.frameStats.record(FramePhase.BALL_COLLISIONS, phaseStart);
         checkBounds(); // Keeps userPaddle in bounds
-        checkPerkPaddleState();
-        checkCameraState();
+        phaseStart = this.frameStats.record(FramePhase.CHECK_BOUNDS, phaseStart);
+        this.puckLifecycleManager.update();
+        phaseStart = this.frameStats.record(FramePhase.PUCK_LIFECYCLE, phaseStart);
+        if (this.perkPaddleExpired) {
+            checkPerkPaddleState();
+        }
+        phaseStart = this.frameStats.record(FramePhase.CHECK_PERK_PADDLE, phaseStart);
+        if (this.cameraStateChanged) {
+            checkCameraState();
+        }
+        phaseStart = this.frameStats.record(FramePhase.CHECK_CAMERA, phaseStart);
         checkForGameEnd();
+        this.frameStats.record(FramePhase.CHECK_GAME_END, phaseStart);
+    }
+
+    /**
+     * Counts the game objects in every layer. Called on the game thread at the end of every frame, once the
+     * frame's adds and removes are applied, since the engine's collection can't be walked from another thread.
+     *
+     * @return The number of game objects.
+     */
+    private int countGameObjects() {
+        if (gameObjects() == null) {
+            return 0;
+        }
+        int count = 0;
+        for (GameObject ignored : gameObjects()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Records where the moving objects are before the last physics step of a frame, to interpolate from.
+     */
+    private void recordPreviousCorners() {
+        this.previousCorners.clear();
+        for (Ball ballObject : this.gameObjectRegistry.objectsOfType(Ball.class)) {
+            this.previousCorners.put(ballObject, ballObject.getTopLeftCorner());
+        }
+        for (UserPaddle paddle : this.gameObjectRegistry.objectsOfType(UserPaddle.class)) {
+            this.previousCorners.put(paddle, paddle.getTopLeftCorner());
+        }
+    }
+
+    /**
+     * Renders the game with the moving objects interpolated between the last two physics steps,
+     * according to how much of the next step the frame time already covers.
+     * While the camera follows the ball, objects outside its view are left out of the frame.
+     *
+     * @param g The graphics context to render into.
+     */
+    @Override
+    public void render(Graphics2D g) {
+        long renderStart = System.nanoTime();
+        float alpha = this.fixedTimestep.alpha();
+        for (Map.Entry<GameObject, Vector2> entry : this.previousCorners.entrySet()) {
+            GameObject gameObject = entry.getKey();
+            Vector2 current = gameObject.getTopLeftCorner();
+            this.interpolatedObjects.add(gameObject);
+            this.physicsCorners.add(current);
+            gameObject.setTopLeftCorner(entry.getValue().add(current.subtract(entry.getValue()).mult(alpha)));
+        }
+        cullOutsideCamera(camera());
+        super.render(g);
+        for (int i = 0; i < this.culledObjects.size(); i++) {
+            this.culledObjects.get(i).renderer().setRenderable(this.culledRenderables.get(i));
+        }
+        this.culledObjects.clear();
+        this.culledRenderables.clear();
+        for (int i = 0; i < this.interpolatedObjects.size(); i++) {
+            this.interpolatedObjects.get(i).setTopLeftCorner(this.physicsCorners.get(i));
+        }
+        this.interpolatedObjects.clear();
+        this.physicsCorners.clear();
+        this.frameStats.record(FramePhase.RENDER, renderStart);
+    }
 
+    /**
+     * Hides the objects of the default layer that don't intersect the camera's view, until they are restored
+     * after the frame is drawn. The static layer crops itself to the view, and the UI layer is always drawn.
+     *
+     * @param camera The current camera, or null if the whole window is in view.
+     */
+    private void cullOutsideCamera(Camera camera) {
+        this.culledObjectCount = 0;
+        if (camera == null) {
+            return;
+        }
+        Vector2 viewTopLeft = camera.getTopLeftCorner();
+        Vector2 viewBottomRight = viewTopLeft.add(camera.getDimensions());
+        for (GameObject gameObject : gameObjects().objectsInLayer(Layer.DEFAULT)) {
+            Renderable renderable = gameObject.renderer().getRenderable();
+            if (renderable == null) {
+                continue;
+            }
+            Vector2 topLeft = gameObject.getTopLeftCorner();
+            Vector2 dimensions = gameObject.getDimensions();
+            if (topLeft.x() < viewBottomRight.x() && viewTopLeft.x() < topLeft.x() + dimensions.x()
+                    && topLeft.y() < viewBottomRight.y() && viewTopLeft.y() < topLeft.y() + dimensions.y()) {
+                continue;
+            }
+            this.culledObjects.add(gameObject);
+            this.culledRenderables.add(renderable);
+            gameObject.renderer().setRenderable(null);
+        }
+        this.culledObjectCount = this.culledObjects.size();
+    }
+
+    /**
+     * Returns the number of objects left out of the last frame drawn because the camera didn't see them.
+     *
+     * @return The culled object count.
+     */
+    public int getCulledObjectCount() {
+        return this.culledObjectCount;
+    }
+
+    /**
+     * Starts recording the input of every frame to a file, for a {@link bricker.simulation.ReplayRunner}
+     * to replay. Should be called before the game starts; the recording ends with the first game.
+     *
+     * @param path The file to record to.
+     * @throws IOException If the file cannot be written.
+     */
+    public void startRecording(Path path) throws IOException {
+        this.inputRecorder = new InputRecorder(path, this.seed, this.bricksInRow, this.rowsOfBricks,
+                this.windowDimensions, this.level);
+    }
+
+    /**
+     * Stops recording the input, if it is being recorded.
+     */
+    public void stopRecording() {
+        if (this.inputRecorder == null) {
+            return;
+        }
+        try {
+            this.inputRecorder.close();
+        } catch (IOException e) {
+            System.err.println("Failed to finish the input recording: " + e.getMessage());
+        }
+        this.inputRecorder = null;
+    }
+
+    /**
+     * Returns the seed all randomness in this game manager derives from.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Returns the frame-time statistics of this game. They are kept across game resets.
+     *
+     * @return The frame statistics.
+     */
+    public FrameStats getFrameStats() {
+        return this.frameStats;
+    }
+
+    /**
+     * Returns the observable state of the current game, for HUD widgets and tools to subscribe to.
+     *
+     * @return The game state store.
+     */
+    public GameStateStore getGameState() {
+        return this.gameState;
+    }
+
+    /**
+     * Returns the main ball.
+     *
+     * @return The main ball.
+     */
+    public Ball getBall() {
+        return this.ball;
+    }
+
+    /**
+     * Returns the wall of bricks.
+     *
+     * @return The brick field.
+     */
+    public BrickField getBrickField() {
+        return this.brickField;
+    }
+
+    /**
+     * Returns the user-controlled paddle.
+     *
+     * @return The user paddle.
+     */
+    public UserPaddle getUserPaddle() {
+        return this.userPaddle;
+    }
+
+    /**
+     * Hands the user paddle and every perk paddle from now on, including after a reset, to a controller
+     * instead of the arrow keys.
+     *
+     * @param controller The controller that moves the paddles.
+     */
+    public void setPaddleController(PaddleController controller) {
+        this.paddleController = controller;
+        if (this.userPaddle != null) {
+            this.userPaddle.setController(controller);
+        }
+    }
+
+    /**
+     * Returns the predictor of ball paths between the walls of this game's playfield.
+     *
+     * @return The trajectory predictor.
+     */
+    public TrajectoryPredictor getTrajectoryPredictor() {
+        return this.trajectoryPredictor;
+    }
+
+    /**
+     * Returns the number of strikes the player has left.
+     *
+     * @return The number of strikes left.
+     */
+    public int getStrikesLeft() {
+        return this.gameState.strikes().value();
+    }
+
+    /**
+     * Returns the number of bricks still standing.
+     *
+     * @return The number of bricks left.
+     */
+    public int getBricksLeft() {
+        return this.gameState.bricksLeft().value();
+    }
+
+    /**
+     * Releases extra pucks into play, as a pucks brick would.
+     *
+     * @param count The number of pucks to spawn.
+     */
+    public void spawnPucks(int count) {
+        for (int i = 0; i < count; i++) {
+            this.puckLifecycleManager.spawn();
+        }
+        this.commandBuffer.flush();
+    }
+
+    /**
+     * Turns the ball storm stress mode on or off. In a storm, balls bounce off each other instead of passing
+     * through, and the game never ends: clearing the wall doesn't win it, and losing the main ball costs no
+     * strike.
+     *
+     * @param ballStorm True to turn the storm on.
+     */
+    public void setBallStorm(boolean ballStorm) {
+        this.ballStorm = ballStorm;
+    }
+
+    /**
+     * Sets the number of threads balls are collided with the bricks on. With more than one, the bricks are
+     * tested against the balls of separate strips of the playfield in parallel, and the contacts are applied
+     * on the game thread in the same order as with one, so the game plays out identically.
+     *
+     * @param threads The number of threads, 1 to collide on the game thread only.
+     */
+    public void setCollisionThreads(int threads) {
+        if (this.stripCollisionResolver != null) {
+            this.stripCollisionResolver.shutdown();
+        }
+        this.stripCollisionResolver = threads > 1 ? new StripCollisionResolver(threads) : null;
+    }
+
+    /**
+     * Returns how many times two balls touched since the game started.
+     *
+     * @return The number of ball-to-ball contacts.
+     */
+    public long getBallContactCount() {
+        return this.ballContacts;
+    }
+
+    /**
+     * Returns the number of balls in play: the main ball and every live puck.
+     *
+     * @return The number of live balls.
+     */
+    public int getLiveBallCount() {
+        return 1 + this.puckLifecycleManager.livePuckCount();
+    }
+
+    /**
+     * Returns the cache every game in this process reads its images and sounds through.
+     *
+     * @return The asset cache.
+     */
+    public static AssetCache getAssetCache() {
+        return ASSET_CACHE;
     }
 
     /**
@@ -442,7 +1381,12 @@ public class BrickerGameManager extends GameManager {
      *
      * @param args Command-line arguments. The first argument is the number of bricks in a row,
      *             and the second argument is the number of rows of bricks. If only one argument
-     *             is provided, it's assumed to be the number of rows of bricks.
+     *             is provided, it's the path of a level file if it isn't a number, and the number of rows
+     *             of bricks otherwise.
+     *             The system property bricker.seed fixes the seed of the game, and bricker.record
+     *             names a file to record the game's input to. The last ten seconds of the game are kept as
+     *             snapshots, and dumped to a file if the game crashes. bricker.spectate names the loopback
+     *             port or the Unix domain socket path to stream the game to spectators on.
      */
     public static void main(String[] args) {
         int bricksInRow = DEFAULT_NUM_BRICK_IN_ROW;
@@ -451,10 +1395,46 @@ public class BrickerGameManager extends GameManager {
             bricksInRow = Integer.parseInt(args[0]);
             rowsOfBricks = Integer.parseInt(args[1]);
         }
+        Level level = null;
         if (args.length == 1) {
-            rowsOfBricks = Integer.parseInt(args[0]);
+            try {
+                rowsOfBricks = Integer.parseInt(args[0]);
+            } catch (NumberFormatException e) {
+                try {
+                    level = Level.load(Paths.get(args[0]));
+                } catch (IOException ioException) {
+                    System.err.println("Can't load level: " + ioException.getMessage());
+                    return;
+                }
+            }
+        }
+        long seed = Long.getLong("bricker.seed", new Random().nextLong());
+        BrickerGameManager gameManager = level == null
+                ? new BrickerGameManager("Joni&Lior bricker.io", new Vector2(700, 500), bricksInRow, rowsOfBricks, seed)
+                : new BrickerGameManager("Joni&Lior bricker.io", new Vector2(700, 500), level);
+        gameManager.enableSnapshots(SNAPSHOT_FRAMES, SNAPSHOT_BYTES);
+        String recordPath = System.getProperty("bricker.record");
+        if (recordPath != null) {
+            try {
+                gameManager.startRecording(Paths.get(recordPath));
+            } catch (IOException e) {
+                System.err.println("Input is not recorded: " + e.getMessage());
+            }
+        }
+        String spectateAddress = System.getProperty("bricker.spectate");
+        if (spectateAddress != null) {
+            try {
+                gameManager.startSpectatorServer(SpectatorServer.parseAddress(spectateAddress));
+            } catch (IOException e) {
+                System.err.println("The game is not streamed to spectators: " + e.getMessage());
+            }
+        }
+        try {
+            gameManager.getFrameStats().register("main");
+        } catch (JMException e) {
+            System.err.println("Frame statistics are not published over JMX: " + e.getMessage());
         }
-        new BrickerGameManager("Joni&Lior bricker.io", new Vector2(700, 500), bricksInRow, rowsOfBricks).run();
+        gameManager.run();
     }
 
 }
@@ -0,0 +1,136 @@
+package bricker.main;
+
+import danogl.GameObject;
+import danogl.collisions.Layer;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queues the game objects added and removed during a frame, and applies them to the registry in one batch at
+ * the end of the frame, so collision callbacks never change the collection while the engine iterates it.
+ * Requests are merged per object: repeating a request has no further effect, and an object removed and added
+ * back (or added and removed) within the frame is left as it was.
+ */
+public class CommandBuffer {
+    private final GameObjectRegistry gameObjectRegistry;
+    private final Map<GameObject, Command> pending = new IdentityHashMap<>();
+    private final List<Command> order = new ArrayList<>();
+    private final List<Command> spare = new ArrayList<>();
+    private int mergedCount;
+
+    /**
+     * Constructs a new, empty CommandBuffer instance.
+     *
+     * @param gameObjectRegistry The registry the requests are applied to.
+     */
+    public CommandBuffer(GameObjectRegistry gameObjectRegistry) {
+        this.gameObjectRegistry = gameObjectRegistry;
+    }
+
+    /**
+     * Queues adding a game object to the default layer.
+     *
+     * @param gameObject The game object to add.
+     */
+    public void addGameObject(GameObject gameObject) {
+        addGameObject(gameObject, Layer.DEFAULT);
+    }
+
+    /**
+     * Queues adding a game object to the given layer.
+     *
+     * @param gameObject The game object to add.
+     * @param layer      The layer to add the object to.
+     */
+    public void addGameObject(GameObject gameObject, int layer) {
+        request(gameObject, true, layer);
+    }
+
+    /**
+     * Queues removing a game object from the default layer.
+     *
+     * @param gameObject The game object to remove.
+     */
+    public void removeGameObject(GameObject gameObject) {
+        removeGameObject(gameObject, Layer.DEFAULT);
+    }
+
+    /**
+     * Queues removing a game object from the given layer.
+     *
+     * @param gameObject The game object to remove.
+     * @param layer      The layer the object is in.
+     */
+    public void removeGameObject(GameObject gameObject, int layer) {
+        request(gameObject, false, layer);
+    }
+
+    /**
+     * Applies every queued request, in the order the objects were first requested, and empties the buffer.
+     */
+    public void flush() {
+        for (int i = 0; i < this.order.size(); i++) {
+            Command command = this.order.get(i);
+            // The object ends where it started if the last request undid the first one
+            if (command.firstAdd == command.lastAdd) {
+                if (command.lastAdd) {
+                    this.gameObjectRegistry.addGameObject(command.gameObject, command.layer);
+                } else {
+                    this.gameObjectRegistry.removeGameObject(command.gameObject, command.layer);
+                }
+            }
+            command.gameObject = null;
+            this.spare.add(command);
+        }
+        this.order.clear();
+        this.pending.clear();
+    }
+
+    /**
+     * Returns the number of objects with requests waiting for the end of the frame.
+     *
+     * @return The number of pending objects.
+     */
+    public int pendingCount() {
+        return this.order.size();
+    }
+
+    /**
+     * Returns how many requests were merged into an earlier request for the same object.
+     *
+     * @return The number of merged requests.
+     */
+    public int mergedCount() {
+        return this.mergedCount;
+    }
+
+    private void request(GameObject gameObject, boolean add, int layer) {
+        Command command = this.pending.get(gameObject);
+        if (command != null) {
+            command.lastAdd = add;
+            command.layer = layer;
+            this.mergedCount++;
+            return;
+        }
+        command = this.spare.isEmpty() ? new Command() : this.spare.remove(this.spare.size() - 1);
+        command.gameObject = gameObject;
+        command.firstAdd = add;
+        command.lastAdd = add;
+        command.layer = layer;
+        this.pending.put(gameObject, command);
+        this.order.add(command);
+    }
+
+    /**
+     * The merged requests for a single object.
+     */
+    private static class Command {
+        private GameObject gameObject;
+        private boolean firstAdd;
+        private boolean lastAdd;
+        private int layer;
+    }
+}
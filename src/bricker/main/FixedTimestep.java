@@ -0,0 +1,63 @@
+package bricker.main;
+
+/**
+ * Splits variable frame times into fixed physics steps.
+ * Frame time accumulates until it covers a whole step; at most a fixed number of steps is run per frame,
+ * and any time beyond that is dropped, so a slow frame cannot snowball into ever slower frames.
+ * The fraction of a step left over is exposed for interpolating rendered positions between steps.
+ */
+public class FixedTimestep {
+    private final float step;
+    private final int maxSubsteps;
+    private float accumulator;
+
+    /**
+     * Constructs a new FixedTimestep instance.
+     *
+     * @param step        The length of a physics step, in seconds.
+     * @param maxSubsteps The maximum number of physics steps run in a single frame.
+     */
+    public FixedTimestep(float step, int maxSubsteps) {
+        if (step <= 0 || maxSubsteps <= 0) {
+            throw new IllegalArgumentException("step and maxSubsteps must be positive");
+        }
+        this.step = step;
+        this.maxSubsteps = maxSubsteps;
+    }
+
+    /**
+     * Adds a frame's time to the accumulator and consumes whole steps from it.
+     *
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     * @return The number of physics steps to run this frame.
+     */
+    public int advance(float deltaTime) {
+        this.accumulator += deltaTime;
+        int steps = (int) (this.accumulator / this.step);
+        if (steps > this.maxSubsteps) {
+            steps = this.maxSubsteps;
+            this.accumulator = 0;
+        } else {
+            this.accumulator -= steps * this.step;
+        }
+        return steps;
+    }
+
+    /**
+     * Returns the length of a physics step.
+     *
+     * @return The step, in seconds.
+     */
+    public float step() {
+        return this.step;
+    }
+
+    /**
+     * Returns how far the rendered frame is between the last physics step and the next one.
+     *
+     * @return The interpolation factor, between 0 and 1.
+     */
+    public float alpha() {
+        return this.accumulator / this.step;
+    }
+}
@@ -0,0 +1,111 @@
+package bricker.main;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Adds and removes game objects through the game object collection while indexing them by type and tag,
+ * so per-frame checks can find the objects they care about without scanning the whole collection.
+ * An object is indexed under its own class and every superclass up to GameObject.
+ */
+public class GameObjectRegistry {
+    private final GameObjectCollection gameObjectCollection;
+    private final Map<Class<?>, Set<GameObject>> byType = new HashMap<>();
+    private final Map<String, Set<GameObject>> byTag = new HashMap<>();
+
+    /**
+     * Constructs a new, empty GameObjectRegistry instance.
+     *
+     * @param gameObjectCollection The collection of game objects.
+     */
+    public GameObjectRegistry(GameObjectCollection gameObjectCollection) {
+        this.gameObjectCollection = gameObjectCollection;
+    }
+
+    /**
+     * Adds a game object to the default layer and indexes it.
+     *
+     * @param gameObject The game object to add.
+     */
+    public void addGameObject(GameObject gameObject) {
+        addGameObject(gameObject, Layer.DEFAULT);
+    }
+
+    /**
+     * Adds a game object to the given layer and indexes it.
+     *
+     * @param gameObject The game object to add.
+     * @param layer      The layer to add the object to.
+     */
+    public void addGameObject(GameObject gameObject, int layer) {
+        this.gameObjectCollection.addGameObject(gameObject, layer);
+        for (Class<?> type = gameObject.getClass(); type != Object.class; type = type.getSuperclass()) {
+            this.byType.computeIfAbsent(type, k -> new LinkedHashSet<>()).add(gameObject);
+        }
+        this.byTag.computeIfAbsent(gameObject.getTag(), k -> new LinkedHashSet<>()).add(gameObject);
+    }
+
+    /**
+     * Removes a game object from the default layer and from the index.
+     *
+     * @param gameObject The game object to remove.
+     * @return True if the object was in the collection.
+     */
+    public boolean removeGameObject(GameObject gameObject) {
+        return removeGameObject(gameObject, Layer.DEFAULT);
+    }
+
+    /**
+     * Removes a game object from the given layer and from the index.
+     *
+     * @param gameObject The game object to remove.
+     * @param layer      The layer the object is in.
+     * @return True if the object was in the collection.
+     */
+    public boolean removeGameObject(GameObject gameObject, int layer) {
+        for (Class<?> type = gameObject.getClass(); type != Object.class; type = type.getSuperclass()) {
+            Set<GameObject> objects = this.byType.get(type);
+            if (objects != null) {
+                objects.remove(gameObject);
+            }
+        }
+        Set<GameObject> tagged = this.byTag.get(gameObject.getTag());
+        if (tagged != null) {
+            tagged.remove(gameObject);
+        }
+        return this.gameObjectCollection.removeGameObject(gameObject, layer);
+    }
+
+    /**
+     * Returns the registered objects of the given type, including subtypes, in the order they were added.
+     * The returned set is a live view and must not be iterated while objects are added or removed.
+     *
+     * @param type The type of objects to look up.
+     * @param <T>  The type of objects to look up.
+     * @return The registered objects of the type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends GameObject> Set<T> objectsOfType(Class<T> type) {
+        Set<GameObject> objects = this.byType.get(type);
+        return objects == null ? Collections.emptySet() : (Set<T>) (Set<?>) Collections.unmodifiableSet(objects);
+    }
+
+    /**
+     * Returns the registered objects with the given tag, in the order they were added.
+     * The returned set is a live view and must not be iterated while objects are added or removed.
+     *
+     * @param tag The tag to look up.
+     * @return The registered objects with the tag.
+     */
+    public Set<GameObject> objectsWithTag(String tag) {
+        Set<GameObject> objects = this.byTag.get(tag);
+        return objects == null ? Collections.emptySet() : Collections.unmodifiableSet(objects);
+    }
+}
@@ -0,0 +1,66 @@
+package bricker.main;
+
+import bricker.util.ObservableCounter;
+
+/**
+ * Holds the shared state of a game: strikes, bricks remaining, camera state and perk paddle state.
+ * Every value is an {@link ObservableCounter}, so the HUD and the game manager react to changes instead of
+ * polling the values every frame.
+ */
+public class GameStateStore {
+    private static final int OFF = 0;
+    private static final int NO_PERK_PUDDLE = 0;
+
+    private final ObservableCounter strikes;
+    private final ObservableCounter bricksLeft;
+    private final ObservableCounter cameraSwitch;
+    private final ObservableCounter perkPaddleState; //0: perk paddle doesn't exit. 1+i: exists with i collisions.
+
+    /**
+     * Constructs a new GameStateStore instance for a game that has not started yet.
+     *
+     * @param initialStrikes The number of strikes the player starts with.
+     */
+    public GameStateStore(int initialStrikes) {
+        this.strikes = new ObservableCounter(initialStrikes);
+        this.bricksLeft = new ObservableCounter(0);
+        this.cameraSwitch = new ObservableCounter(OFF);
+        this.perkPaddleState = new ObservableCounter(NO_PERK_PUDDLE);
+    }
+
+    /**
+     * Returns the number of strikes the player has left.
+     *
+     * @return The strikes counter.
+     */
+    public ObservableCounter strikes() {
+        return this.strikes;
+    }
+
+    /**
+     * Returns the number of bricks still standing.
+     *
+     * @return The bricks counter.
+     */
+    public ObservableCounter bricksLeft() {
+        return this.bricksLeft;
+    }
+
+    /**
+     * Returns whether the camera follows the ball: 0 for off, 1 for on.
+     *
+     * @return The camera switch counter.
+     */
+    public ObservableCounter cameraSwitch() {
+        return this.cameraSwitch;
+    }
+
+    /**
+     * Returns the state of the perk paddle: 0 if it doesn't exist, 1+i if it exists and was hit i times.
+     *
+     * @return The perk paddle state counter.
+     */
+    public ObservableCounter perkPaddleState() {
+        return this.perkPaddleState;
+    }
+}
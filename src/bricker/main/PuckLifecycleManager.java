@@ -0,0 +1,93 @@
+package bricker.main;
+
+import bricker.gameobjects.Ball;
+import bricker.util.ObjectPool;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Tracks the pucks in play.
+ * Pucks are spawned from a pool, and once a puck falls below the bottom of the window it is removed from the
+ * game and returned to the pool, so the number of live objects stays bounded.
+ */
+public class PuckLifecycleManager {
+    private final CommandBuffer commandBuffer;
+    private final ObjectPool<Ball> puckPool;
+    private final float bottomBound;
+    private final List<Ball> livePucks = new ArrayList<>();
+
+    /**
+     * Constructs a new PuckLifecycleManager instance.
+     *
+     * @param commandBuffer The buffer pucks are added and removed through at the end of the frame.
+     * @param puckPool      The pool pucks are taken from and returned to.
+     * @param bottomBound   The height below which a puck is out of play.
+     */
+    public PuckLifecycleManager(CommandBuffer commandBuffer, ObjectPool<Ball> puckPool, float bottomBound) {
+        this.commandBuffer = commandBuffer;
+        this.puckPool = puckPool;
+        this.bottomBound = bottomBound;
+    }
+
+    /**
+     * Takes a puck from the pool and puts it in play. The puck joins the game at the end of the frame.
+     *
+     * @return The spawned puck.
+     */
+    public Ball spawn() {
+        Ball puck = this.puckPool.acquire();
+        this.commandBuffer.addGameObject(puck);
+        this.livePucks.add(puck);
+        return puck;
+    }
+
+    /**
+     * Removes the pucks that fell out of play and returns them to the pool.
+     * Should be called once per frame.
+     */
+    public void update() {
+        Iterator<Ball> iterator = this.livePucks.iterator();
+        while (iterator.hasNext()) {
+            Ball puck = iterator.next();
+            if (puck.getTopLeftCorner().y() > this.bottomBound) {
+                iterator.remove();
+                this.commandBuffer.removeGameObject(puck);
+                this.puckPool.release(puck);
+            }
+        }
+    }
+
+    /**
+     * Takes the newest pucks out of play until only the given number is left, and returns them to the pool.
+     *
+     * @param count The number of pucks to keep.
+     */
+    public void trimTo(int count) {
+        while (this.livePucks.size() > count) {
+            Ball puck = this.livePucks.remove(this.livePucks.size() - 1);
+            this.commandBuffer.removeGameObject(puck);
+            this.puckPool.release(puck);
+        }
+    }
+
+    /**
+     * Returns a puck currently in play.
+     *
+     * @param index The index of the puck, in the order the live pucks were spawned.
+     * @return The puck.
+     */
+    public Ball livePuck(int index) {
+        return this.livePucks.get(index);
+    }
+
+    /**
+     * Returns the number of pucks currently in play.
+     *
+     * @return The number of live pucks.
+     */
+    public int livePuckCount() {
+        return this.livePucks.size();
+    }
+}
@@ -0,0 +1,156 @@
+package bricker.main;
+
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.BrickField;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Collides many balls with the brick field on several threads.
+ * The brick field is split into vertical strips, and the balls whose centers are in each strip are tested
+ * against the bricks in parallel on a ForkJoin pool, without changing anything. The contacts found are then
+ * applied on the calling thread, ball by ball in the order the balls were given, so the bounces, broken bricks
+ * and strategies are exactly those of colliding the balls one by one with
+ * {@link BrickField#resolveCollisions(Ball)}.
+ */
+public class StripCollisionResolver {
+    private static final int STRIPS_PER_THREAD = 4; // More strips than threads, since balls bunch up
+    private static final int MIN_PARALLEL_BALLS = 64; // Fewer balls are collided on the calling thread
+
+    private final ForkJoinPool pool;
+    private final Strip[] strips;
+    private int[] ballStrips = new int[MIN_PARALLEL_BALLS];
+    private int[] contactStarts = new int[MIN_PARALLEL_BALLS];
+    private int[] contactCounts = new int[MIN_PARALLEL_BALLS];
+
+    /**
+     * Constructs a new StripCollisionResolver instance with a pool of its own.
+     *
+     * @param threads The number of threads to test balls on.
+     */
+    public StripCollisionResolver(int threads) {
+        this.pool = new ForkJoinPool(threads);
+        this.strips = new Strip[threads * STRIPS_PER_THREAD];
+        for (int i = 0; i < this.strips.length; i++) {
+            this.strips[i] = new Strip();
+        }
+    }
+
+    /**
+     * Collides every ball with the brick field.
+     *
+     * @param brickField The brick field.
+     * @param balls      The balls, in the order their contacts are applied.
+     */
+    public void resolve(BrickField brickField, List<Ball> balls) {
+        if (balls.size() < MIN_PARALLEL_BALLS) {
+            for (Ball ball : balls) {
+                brickField.resolveCollisions(ball);
+            }
+            return;
+        }
+        assignStrips(brickField, balls);
+        for (Strip strip : this.strips) {
+            strip.reinitialize();
+        }
+        this.pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(strips);
+            }
+        });
+        for (int i = 0; i < balls.size(); i++) {
+            Strip strip = this.strips[this.ballStrips[i]];
+            Ball ball = balls.get(i);
+            int end = this.contactStarts[i] + this.contactCounts[i];
+            for (int contact = this.contactStarts[i]; contact < end; contact++) {
+                brickField.resolveContact(ball, strip.contacts[contact]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of threads balls are tested on.
+     *
+     * @return The parallelism of the pool.
+     */
+    public int threads() {
+        return this.pool.getParallelism();
+    }
+
+    /**
+     * Stops the pool's threads. The resolver can't be used afterwards.
+     */
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Hands every ball to the strip its center is in.
+     */
+    private void assignStrips(BrickField brickField, List<Ball> balls) {
+        int ballCount = balls.size();
+        if (this.ballStrips.length < ballCount) {
+            this.ballStrips = new int[ballCount * 2];
+            this.contactStarts = new int[ballCount * 2];
+            this.contactCounts = new int[ballCount * 2];
+        }
+        for (Strip strip : this.strips) {
+            strip.brickField = brickField;
+            strip.balls = balls;
+            strip.ballCount = 0;
+        }
+        float left = brickField.getTopLeftCorner().x();
+        float stripWidth = brickField.getDimensions().x() / this.strips.length;
+        for (int i = 0; i < ballCount; i++) {
+            int index = (int) ((balls.get(i).getCenter().x() - left) / stripWidth);
+            index = Math.min(Math.max(index, 0), this.strips.length - 1);
+            this.ballStrips[i] = index;
+            this.strips[index].addBall(i);
+        }
+    }
+
+    /**
+     * The balls of one vertical strip, and the contacts found for them.
+     * Each ball's contacts are stored in the strip's own buffer, at the offset recorded in contactStarts.
+     */
+    @SuppressWarnings("serial")
+    private class Strip extends RecursiveAction implements IntConsumer {
+        private BrickField brickField;
+        private List<Ball> balls;
+        private int[] ballIndices = new int[MIN_PARALLEL_BALLS];
+        private int ballCount;
+        private int[] contacts = new int[MIN_PARALLEL_BALLS];
+        private int contactCount;
+
+        private void addBall(int ballIndex) {
+            if (this.ballCount == this.ballIndices.length) {
+                this.ballIndices = Arrays.copyOf(this.ballIndices, this.ballCount * 2);
+            }
+            this.ballIndices[this.ballCount++] = ballIndex;
+        }
+
+        @Override
+        protected void compute() {
+            this.contactCount = 0;
+            for (int i = 0; i < this.ballCount; i++) {
+                int ballIndex = this.ballIndices[i];
+                contactStarts[ballIndex] = this.contactCount;
+                this.brickField.findContacts(this.balls.get(ballIndex), this);
+                contactCounts[ballIndex] = this.contactCount - contactStarts[ballIndex];
+            }
+        }
+
+        @Override
+        public void accept(int cell) {
+            if (this.contactCount == this.contacts.length) {
+                this.contacts = Arrays.copyOf(this.contacts, this.contactCount * 2);
+            }
+            this.contacts[this.contactCount++] = cell;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package bricker.metrics;
+
+/**
+ * The phases of a frame of BrickerGameManager that are timed separately.
+ */
+public enum FramePhase {
+    /** The whole frame, including every physics step. */
+    FRAME,
+    /** Sweeping the balls along their paths. */
+    SWEEP,
+    /** The engine's update of all game objects and its collisions. */
+    ENGINE_UPDATE,
+    /** Colliding the balls with the brick field. */
+    BRICK_COLLISIONS,
+    /** Colliding the balls with each other, when enabled. */
+    BALL_COLLISIONS,
+    /** Keeping the paddles in bounds. */
+    CHECK_BOUNDS,
+    /** Removing and recycling pucks out of play. */
+    PUCK_LIFECYCLE,
+    /** Expiring the perk paddle. */
+    CHECK_PERK_PADDLE,
+    /** Attaching and detaching the follow camera. */
+    CHECK_CAMERA,
+    /** Checking for a win or a loss. */
+    CHECK_GAME_END,
+    /** Capturing the snapshot of the frame and streaming it to spectators, when enabled. */
+    SNAPSHOT,
+    /** Drawing the frame, outside of update. */
+    RENDER
+}
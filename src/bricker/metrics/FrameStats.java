@@ -0,0 +1,117 @@
+package bricker.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Records how long every phase of a frame takes, and publishes the latencies along with a few gauges of the
+ * game's size as an MBean.
+ * Timings are recorded on the game thread into fixed-memory histograms; gauges are only evaluated when read.
+ */
+public class FrameStats implements FrameStatsMXBean {
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[FramePhase.values().length];
+    private final IntSupplier objectCount;
+    private final IntSupplier ballCount;
+    private final IntSupplier bricksRemaining;
+    private final IntSupplier culledObjects;
+
+    /**
+     * Constructs a new FrameStats instance.
+     *
+     * @param objectCount     Supplies the number of game objects.
+     * @param ballCount       Supplies the number of balls in play.
+     * @param bricksRemaining Supplies the number of bricks still standing.
+     * @param culledObjects   Supplies the number of objects culled from the last frame drawn.
+     */
+    public FrameStats(IntSupplier objectCount, IntSupplier ballCount, IntSupplier bricksRemaining,
+                      IntSupplier culledObjects) {
+        for (int i = 0; i < this.histograms.length; i++) {
+            this.histograms[i] = new LatencyHistogram();
+        }
+        this.objectCount = objectCount;
+        this.ballCount = ballCount;
+        this.bricksRemaining = bricksRemaining;
+        this.culledObjects = culledObjects;
+    }
+
+    /**
+     * Records the duration of a phase that started at the given time.
+     *
+     * @param phase          The phase.
+     * @param startNanoTime  The value of System.nanoTime() when the phase started.
+     * @return The current value of System.nanoTime(), so consecutive phases can be timed back to back.
+     */
+    public long record(FramePhase phase, long startNanoTime) {
+        long now = System.nanoTime();
+        this.histograms[phase.ordinal()].record(now - startNanoTime);
+        return now;
+    }
+
+    /**
+     * Returns the histogram of a phase.
+     *
+     * @param phase The phase.
+     * @return The histogram of its latencies.
+     */
+    public LatencyHistogram histogram(FramePhase phase) {
+        return this.histograms[phase.ordinal()];
+    }
+
+    /**
+     * Registers these statistics with the platform MBean server, under bricker:type=FrameStats,name=[name].
+     *
+     * @param name The name distinguishing this game from others in the same process.
+     * @throws JMException If the registration fails.
+     */
+    public void register(String name) throws JMException {
+        ObjectName objectName = new ObjectName("bricker:type=FrameStats,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+    }
+
+    @Override
+    public List<PhaseLatency> getPhases() {
+        List<PhaseLatency> phases = new ArrayList<>();
+        for (FramePhase phase : FramePhase.values()) {
+            LatencyHistogram histogram = histogram(phase);
+            phases.add(new PhaseLatency(phase.name(), histogram.count(),
+                    histogram.valueAtQuantile(0.5) / NANOS_PER_MICRO,
+                    histogram.valueAtQuantile(0.99) / NANOS_PER_MICRO,
+                    histogram.valueAtQuantile(0.999) / NANOS_PER_MICRO,
+                    histogram.max() / NANOS_PER_MICRO));
+        }
+        return phases;
+    }
+
+    @Override
+    public int getObjectCount() {
+        return this.objectCount.getAsInt();
+    }
+
+    @Override
+    public int getBallCount() {
+        return this.ballCount.getAsInt();
+    }
+
+    @Override
+    public int getBricksRemaining() {
+        return this.bricksRemaining.getAsInt();
+    }
+
+    @Override
+    public int getCulledObjects() {
+        return this.culledObjects.getAsInt();
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : this.histograms) {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package bricker.metrics;
+
+import java.util.List;
+
+/**
+ * The frame-time statistics of a running game, as seen from jconsole or any other JMX client.
+ */
+public interface FrameStatsMXBean {
+    /**
+     * Returns the latency statistics of every frame phase.
+     *
+     * @return One entry per phase.
+     */
+    public List<PhaseLatency> getPhases();
+
+    /**
+     * Returns the number of game objects in the game.
+     *
+     * @return The object count.
+     */
+    public int getObjectCount();
+
+    /**
+     * Returns the number of balls in play.
+     *
+     * @return The ball count.
+     */
+    public int getBallCount();
+
+    /**
+     * Returns the number of bricks still standing.
+     *
+     * @return The bricks remaining.
+     */
+    public int getBricksRemaining();
+
+    /**
+     * Returns the number of game objects left out of the last frame drawn because the camera didn't see them.
+     *
+     * @return The culled object count.
+     */
+    public int getCulledObjects();
+
+    /**
+     * Clears all recorded latencies.
+     */
+    public void reset();
+}
@@ -0,0 +1,105 @@
+package bricker.metrics;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-memory histogram of latencies, in nanoseconds.
+ * Buckets are log-linear: every power of two is split into 32 linear sub-buckets, so any recorded value is
+ * reported within about 3% of its true value, from a nanosecond up to about 18 minutes, in under 10KB.
+ * Recording is meant for a single thread; readers on other threads may see slightly stale counts.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 35;
+    private static final int BUCKETS = (MAX_SHIFT + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount;
+    private long max;
+
+    /**
+     * Records a single latency.
+     *
+     * @param nanos The latency, in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        this.counts[bucketOf(nanos)]++;
+        this.totalCount++;
+        if (nanos > this.max) {
+            this.max = nanos;
+        }
+    }
+
+    /**
+     * Returns the latency below which the given fraction of the recorded latencies fall.
+     *
+     * @param quantile The quantile, between 0 and 1 (0.99 for the 99th percentile).
+     * @return The latency at the quantile, in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long valueAtQuantile(double quantile) {
+        long total = this.totalCount;
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += this.counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    /**
+     * Returns the largest recorded latency.
+     *
+     * @return The maximum, in nanoseconds.
+     */
+    public long max() {
+        return this.max;
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return The count.
+     */
+    public long count() {
+        return this.totalCount;
+    }
+
+    /**
+     * Clears all recorded latencies.
+     */
+    public void reset() {
+        Arrays.fill(this.counts, 0);
+        this.totalCount = 0;
+        this.max = 0;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        if (shift > MAX_SHIFT) {
+            return BUCKETS - 1;
+        }
+        return (shift + 1) * SUB_BUCKETS + (int) (value >> shift) - SUB_BUCKETS;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
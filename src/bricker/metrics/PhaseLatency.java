@@ -0,0 +1,96 @@
+package bricker.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * A snapshot of the latency statistics of one frame phase, in microseconds, as published over JMX.
+ */
+public class PhaseLatency {
+    private final String phase;
+    private final long count;
+    private final double p50Micros;
+    private final double p99Micros;
+    private final double p999Micros;
+    private final double maxMicros;
+
+    /**
+     * Constructs a new PhaseLatency instance.
+     *
+     * @param phase      The name of the phase.
+     * @param count      The number of times the phase was timed.
+     * @param p50Micros  The median latency.
+     * @param p99Micros  The 99th percentile latency.
+     * @param p999Micros The 99.9th percentile latency.
+     * @param maxMicros  The maximum latency.
+     */
+    @ConstructorProperties({"phase", "count", "p50Micros", "p99Micros", "p999Micros", "maxMicros"})
+    public PhaseLatency(String phase, long count, double p50Micros, double p99Micros, double p999Micros,
+                        double maxMicros) {
+        this.phase = phase;
+        this.count = count;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.p999Micros = p999Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    /**
+     * Returns the name of the phase.
+     *
+     * @return The phase name.
+     */
+    public String getPhase() {
+        return this.phase;
+    }
+
+    /**
+     * Returns the number of times the phase was timed.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the median latency, in microseconds.
+     *
+     * @return The median latency.
+     */
+    public double getP50Micros() {
+        return this.p50Micros;
+    }
+
+    /**
+     * Returns the 99th percentile latency, in microseconds.
+     *
+     * @return The 99th percentile latency.
+     */
+    public double getP99Micros() {
+        return this.p99Micros;
+    }
+
+    /**
+     * Returns the 99.9th percentile latency, in microseconds.
+     *
+     * @return The 99.9th percentile latency.
+     */
+    public double getP999Micros() {
+        return this.p999Micros;
+    }
+
+    /**
+     * Returns the maximum latency, in microseconds.
+     *
+     * @return The maximum latency.
+     */
+    public double getMaxMicros() {
+        return this.maxMicros;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: n=%d p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus",
+                this.phase, this.count, this.p50Micros, this.p99Micros, this.p999Micros, this.maxMicros);
+    }
+}
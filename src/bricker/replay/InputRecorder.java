@@ -0,0 +1,100 @@
+package bricker.replay;
+
+import bricker.levels.Level;
+import danogl.gui.UserInputListener;
+import danogl.util.Vector2;
+
+import java.awt.event.KeyEvent;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records the input of a game to a compact, append-only file, so the game can be replayed headless.
+ * The file starts with a header holding everything needed to rebuild the same game (seed, wall and window
+ * dimensions, and the cells of the level if one was played), followed by one 5-byte record per frame: the
+ * frame time and a bitmask of the tracked keys.
+ */
+public class InputRecorder implements Closeable {
+    static final int MAGIC = 0x42524B52; // "BRKR"
+    static final int VERSION = 2;
+    static final int[] TRACKED_KEYS = {KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT, KeyEvent.VK_W};
+    private static final int FLUSH_INTERVAL_FRAMES = 60;
+
+    private final DataOutputStream out;
+    private long framesRecorded;
+
+    /**
+     * Constructs a new InputRecorder instance and writes the recording's header.
+     *
+     * @param path             The file to record to. An existing file is overwritten.
+     * @param seed             The seed of the recorded game.
+     * @param bricksInRow      The number of bricks in a row.
+     * @param rowsOfBricks     The number of rows of bricks.
+     * @param windowDimensions The dimensions of the game window.
+     * @param level            The level played, or null for a random wall built from the seed.
+     * @throws IOException If the file cannot be written.
+     */
+    public InputRecorder(Path path, long seed, int bricksInRow, int rowsOfBricks, Vector2 windowDimensions,
+                         Level level) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(VERSION);
+        this.out.writeLong(seed);
+        this.out.writeInt(bricksInRow);
+        this.out.writeInt(rowsOfBricks);
+        this.out.writeFloat(windowDimensions.x());
+        this.out.writeFloat(windowDimensions.y());
+        this.out.writeBoolean(level != null);
+        if (level != null) {
+            this.out.write(level.cells());
+        }
+    }
+
+    /**
+     * Appends a frame to the recording. The file is flushed about once a second of recorded frames.
+     *
+     * @param deltaTime     The time of the frame, in seconds.
+     * @param inputListener The input as it is during the frame.
+     */
+    public void recordFrame(float deltaTime, UserInputListener inputListener) {
+        int keyMask = 0;
+        for (int i = 0; i < TRACKED_KEYS.length; i++) {
+            if (inputListener.isKeyPressed(TRACKED_KEYS[i])) {
+                keyMask |= 1 << i;
+            }
+        }
+        try {
+            this.out.writeFloat(deltaTime);
+            this.out.writeByte(keyMask);
+            if (++this.framesRecorded % FLUSH_INTERVAL_FRAMES == 0) {
+                this.out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the number of frames recorded so far.
+     *
+     * @return The number of frames.
+     */
+    public long framesRecorded() {
+        return this.framesRecorded;
+    }
+
+    /**
+     * Flushes and closes the recording.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+}
@@ -0,0 +1,150 @@
+package bricker.replay;
+
+import bricker.levels.Level;
+import bricker.simulation.HeadlessInputListener;
+import danogl.util.Vector2;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads back a recording written by {@link InputRecorder}, frame by frame.
+ */
+public class InputReplay implements Closeable {
+    private final DataInputStream in;
+    private final long seed;
+    private final int bricksInRow;
+    private final int rowsOfBricks;
+    private final Vector2 windowDimensions;
+    private final Level level;
+    private float deltaTime;
+    private int keyMask;
+
+    /**
+     * Constructs a new InputReplay instance and reads the recording's header.
+     *
+     * @param path The recording to read.
+     * @throws IOException If the file cannot be read or is not a recording.
+     */
+    public InputReplay(Path path) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        if (this.in.readInt() != InputRecorder.MAGIC) {
+            throw new IOException(path + " is not a bricker input recording");
+        }
+        int version = this.in.readInt();
+        if (version != InputRecorder.VERSION) {
+            throw new IOException("Unsupported recording version " + version);
+        }
+        this.seed = this.in.readLong();
+        this.bricksInRow = this.in.readInt();
+        this.rowsOfBricks = this.in.readInt();
+        this.windowDimensions = new Vector2(this.in.readFloat(), this.in.readFloat());
+        if (this.in.readBoolean()) {
+            byte[] cells = new byte[this.bricksInRow * this.rowsOfBricks];
+            this.in.readFully(cells);
+            this.level = new Level(this.bricksInRow, this.rowsOfBricks, this.seed, cells);
+        } else {
+            this.level = null;
+        }
+    }
+
+    /**
+     * Returns the level the recorded game was played on.
+     *
+     * @return The level, or null if the wall was built at random from the seed.
+     */
+    public Level level() {
+        return this.level;
+    }
+
+    /**
+     * Reads the next frame of the recording.
+     *
+     * @return True if a frame was read, false at the end of the recording.
+     * @throws IOException If the file cannot be read.
+     */
+    public boolean nextFrame() throws IOException {
+        try {
+            this.deltaTime = this.in.readFloat();
+            this.keyMask = this.in.readUnsignedByte();
+            return true;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Sets the keys of an input listener to their recorded state in the current frame.
+     *
+     * @param inputListener The input listener to drive.
+     */
+    public void applyKeys(HeadlessInputListener inputListener) {
+        for (int i = 0; i < InputRecorder.TRACKED_KEYS.length; i++) {
+            if ((this.keyMask & (1 << i)) != 0) {
+                inputListener.press(InputRecorder.TRACKED_KEYS[i]);
+            } else {
+                inputListener.release(InputRecorder.TRACKED_KEYS[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the time of the current frame.
+     *
+     * @return The frame time, in seconds.
+     */
+    public float deltaTime() {
+        return this.deltaTime;
+    }
+
+    /**
+     * Returns the seed of the recorded game.
+     *
+     * @return The seed.
+     */
+    public long seed() {
+        return this.seed;
+    }
+
+    /**
+     * Returns the number of bricks in a row of the recorded game.
+     *
+     * @return The number of bricks in a row.
+     */
+    public int bricksInRow() {
+        return this.bricksInRow;
+    }
+
+    /**
+     * Returns the number of rows of bricks of the recorded game.
+     *
+     * @return The number of rows.
+     */
+    public int rowsOfBricks() {
+        return this.rowsOfBricks;
+    }
+
+    /**
+     * Returns the window dimensions of the recorded game.
+     *
+     * @return The window dimensions.
+     */
+    public Vector2 windowDimensions() {
+        return this.windowDimensions;
+    }
+
+    /**
+     * Closes the recording.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+}
@@ -0,0 +1,158 @@
+package bricker.simulation;
+
+import bricker.main.BrickerGameManager;
+import bricker.metrics.FramePhase;
+import bricker.metrics.LatencyHistogram;
+import danogl.util.Vector2;
+
+/**
+ * A stress mode that floods a headless game with pucks, with balls colliding with each other, to find the
+ * number of balls at which a frame no longer fits in the frame budget.
+ * Every stage doubles the number of live balls, topping it up each frame with pucks released in pairs the way
+ * a pucks brick releases them, and reports the frame time at that count.
+ */
+public class BallStorm {
+    private static final Vector2 WINDOW_DIMENSIONS = new Vector2(700, 500);
+    private static final long SEED = 42;
+    private static final int PUCKS_PER_SPAWN = 2;
+    private static final int MAX_SPAWNS_PER_FRAME = 32; // Pucks start on top of each other, so keep the pile small
+    private static final int DEFAULT_NUM_BRICK_IN_ROW = 7;
+    private static final int DEFAULT_NUM_ROWS_OF_BRICKS = 8;
+    private static final int FIRST_STAGE = 16;
+    private static final int DEFAULT_MAX_BALLS = 8192;
+    private static final int DEFAULT_FRAMES_PER_STAGE = 240;
+    private static final int MAX_RAMP_FRAMES = 2000;
+    private static final double FRAME_BUDGET_MILLIS = 1000.0 / 60;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final HeadlessRunner runner;
+    private final BrickerGameManager gameManager;
+
+    /**
+     * Constructs a new BallStorm instance over a fresh headless game in ball storm mode.
+     *
+     * @param bricksInRow      The number of bricks in a row.
+     * @param rowsOfBricks     The number of rows of bricks.
+     * @param collisionThreads The number of threads balls are collided with the bricks on.
+     */
+    public BallStorm(int bricksInRow, int rowsOfBricks, int collisionThreads) {
+        this.runner = new HeadlessRunner(WINDOW_DIMENSIONS, bricksInRow, rowsOfBricks, SEED);
+        this.gameManager = this.runner.getGameManager();
+        this.gameManager.setBallStorm(true);
+        this.gameManager.setCollisionThreads(collisionThreads);
+        this.gameManager.setPaddleController(new TrajectoryBot(this.gameManager));
+    }
+
+    /**
+     * Simulates a frame, after releasing pucks until the given number of balls is live, or until this frame's
+     * share of pucks was released.
+     *
+     * @param targetBalls The number of live balls to keep.
+     */
+    private void frame(int targetBalls) {
+        int missing = targetBalls - this.gameManager.getLiveBallCount();
+        int spawns = Math.min(MAX_SPAWNS_PER_FRAME, (missing + PUCKS_PER_SPAWN - 1) / PUCKS_PER_SPAWN);
+        if (spawns > 0) {
+            this.gameManager.spawnPucks(spawns * PUCKS_PER_SPAWN);
+        }
+        this.runner.step(HeadlessRunner.FRAME_DELTA);
+    }
+
+    /**
+     * Runs a stage: releases pucks until the target number of balls is live, or the ramp runs out of frames,
+     * then times the given number of frames while keeping the balls topped up.
+     *
+     * @param targetBalls The number of live balls to keep.
+     * @param frames      The number of frames to time.
+     * @return The results of the stage.
+     */
+    public StageResult runStage(int targetBalls, int frames) {
+        for (int i = 0; i < MAX_RAMP_FRAMES && this.gameManager.getLiveBallCount() < targetBalls; i++) {
+            frame(targetBalls);
+        }
+        this.gameManager.getFrameStats().reset();
+        long liveBalls = 0;
+        long contacts = this.gameManager.getBallContactCount();
+        for (int i = 0; i < frames; i++) {
+            frame(targetBalls);
+            liveBalls += this.gameManager.getLiveBallCount();
+        }
+        return new StageResult(targetBalls, (double) liveBalls / frames,
+                (double) (this.gameManager.getBallContactCount() - contacts) / frames,
+                this.gameManager.getFrameStats().histogram(FramePhase.FRAME),
+                this.gameManager.getFrameStats().histogram(FramePhase.BALL_COLLISIONS));
+    }
+
+    /**
+     * The frame times measured at one number of balls.
+     */
+    public static class StageResult {
+        private final int targetBalls;
+        private final double averageBalls;
+        private final double contactsPerFrame;
+        private final double medianFrameMillis;
+        private final double p99FrameMillis;
+        private final double medianBallCollisionMillis;
+
+        /**
+         * Constructs a new StageResult instance.
+         *
+         * @param targetBalls      The number of balls the stage kept live.
+         * @param averageBalls     The average number of balls actually live.
+         * @param contactsPerFrame The average number of ball-to-ball contacts per frame.
+         * @param frameTimes       The histogram of the frame times.
+         * @param ballCollisions   The histogram of the times spent colliding balls with each other, per step.
+         */
+        public StageResult(int targetBalls, double averageBalls, double contactsPerFrame,
+                           LatencyHistogram frameTimes, LatencyHistogram ballCollisions) {
+            this.targetBalls = targetBalls;
+            this.averageBalls = averageBalls;
+            this.contactsPerFrame = contactsPerFrame;
+            this.medianFrameMillis = frameTimes.valueAtQuantile(0.5) / NANOS_PER_MILLI;
+            this.p99FrameMillis = frameTimes.valueAtQuantile(0.99) / NANOS_PER_MILLI;
+            this.medianBallCollisionMillis = ballCollisions.valueAtQuantile(0.5) / NANOS_PER_MILLI;
+        }
+
+        /**
+         * Returns whether the median frame fits in the budget of a 60 Hz frame.
+         *
+         * @return True if the frames are fast enough.
+         */
+        public boolean withinBudget() {
+            return this.medianFrameMillis <= FRAME_BUDGET_MILLIS;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("target=%d balls=%.0f frameP50=%.3fms frameP99=%.3fms ballCollisionsP50=%.3fms "
+                            + "contacts/frame=%.1f", this.targetBalls, this.averageBalls, this.medianFrameMillis,
+                    this.p99FrameMillis, this.medianBallCollisionMillis, this.contactsPerFrame);
+        }
+    }
+
+    /**
+     * The entry point of the ball storm.
+     *
+     * @param args Command-line arguments: the largest number of balls to try, the number of frames timed per
+     *             stage, the number of bricks in a row, the number of rows of bricks and the number of
+     *             threads balls are collided with the bricks on. All are optional.
+     */
+    public static void main(String[] args) {
+        int maxBalls = args.length >= 1 ? Integer.parseInt(args[0]) : DEFAULT_MAX_BALLS;
+        int framesPerStage = args.length >= 2 ? Integer.parseInt(args[1]) : DEFAULT_FRAMES_PER_STAGE;
+        int bricksInRow = args.length >= 4 ? Integer.parseInt(args[2]) : DEFAULT_NUM_BRICK_IN_ROW;
+        int rowsOfBricks = args.length >= 4 ? Integer.parseInt(args[3]) : DEFAULT_NUM_ROWS_OF_BRICKS;
+        int collisionThreads = args.length >= 5 ? Integer.parseInt(args[4]) : 1;
+        BallStorm storm = new BallStorm(bricksInRow, rowsOfBricks, collisionThreads);
+        int ceiling = 0;
+        for (int targetBalls = FIRST_STAGE; targetBalls <= maxBalls; targetBalls *= 2) {
+            StageResult result = storm.runStage(targetBalls, framesPerStage);
+            System.out.println(result);
+            if (!result.withinBudget()) {
+                break;
+            }
+            ceiling = (int) result.averageBalls;
+        }
+        System.out.printf("Largest ball count within the %.1fms frame budget: %d%n", FRAME_BUDGET_MILLIS, ceiling);
+    }
+}
@@ -0,0 +1,37 @@
+package bricker.simulation;
+
+import danogl.gui.ImageReader;
+import danogl.gui.WindowController;
+import danogl.gui.rendering.ImageRenderable;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * An image reader that never touches the disk.
+ * Every request is answered with the same 1x1 placeholder image, so a game can be built without decoding assets.
+ */
+public class HeadlessImageReader extends ImageReader {
+    private final ImageRenderable placeholder;
+
+    /**
+     * Constructs a new HeadlessImageReader instance.
+     *
+     * @param windowController The window controller the reader is bound to.
+     */
+    public HeadlessImageReader(WindowController windowController) {
+        super(windowController);
+        this.placeholder = new ImageRenderable(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+    }
+
+    /**
+     * Returns the placeholder image, regardless of the requested path.
+     *
+     * @param imageFilePath              The path of the requested image (ignored).
+     * @param useTransparencyAsBackground Whether the image uses transparency (ignored).
+     * @return The shared placeholder image.
+     */
+    @Override
+    public ImageRenderable readImage(String imageFilePath, boolean useTransparencyAsBackground) {
+        return this.placeholder;
+    }
+}
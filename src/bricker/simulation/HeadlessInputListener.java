@@ -0,0 +1,69 @@
+package bricker.simulation;
+
+import danogl.gui.UserInputListener;
+import danogl.util.Vector2;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A user input listener whose key states are set programmatically instead of by a keyboard.
+ */
+public class HeadlessInputListener implements UserInputListener {
+    private final Set<Integer> pressedKeys = new HashSet<>();
+
+    /**
+     * Marks a key as held down.
+     *
+     * @param keyCode The key code, as defined in java.awt.event.KeyEvent.
+     */
+    public void press(int keyCode) {
+        this.pressedKeys.add(keyCode);
+    }
+
+    /**
+     * Marks a key as released.
+     *
+     * @param keyCode The key code, as defined in java.awt.event.KeyEvent.
+     */
+    public void release(int keyCode) {
+        this.pressedKeys.remove(keyCode);
+    }
+
+    /**
+     * Releases all keys.
+     */
+    public void releaseAll() {
+        this.pressedKeys.clear();
+    }
+
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        return this.pressedKeys.contains(keyCode);
+    }
+
+    @Override
+    public Set<Integer> pressedKeys() {
+        return this.pressedKeys;
+    }
+
+    @Override
+    public boolean wasKeyPressedThisFrame(int keyCode) {
+        return false;
+    }
+
+    @Override
+    public boolean wasKeyReleasedThisFrame(int keyCode) {
+        return false;
+    }
+
+    @Override
+    public boolean isMouseButtonPressed(int button) {
+        return false;
+    }
+
+    @Override
+    public Vector2 getMouseScreenPos() {
+        return Vector2.ZERO;
+    }
+}
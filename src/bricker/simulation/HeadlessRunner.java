@@ -0,0 +1,228 @@
+package bricker.simulation;
+
+import bricker.levels.Level;
+import bricker.main.BrickerGameManager;
+import bricker.metrics.PhaseLatency;
+import bricker.spectator.SpectatorServer;
+import danogl.util.Vector2;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Runs a full game of bricker without opening a window.
+ * The game loop is stepped with a fixed frame delta as fast as the CPU allows, and the simulation
+ * throughput and end-of-game state are printed when it finishes.
+ */
+public class HeadlessRunner {
+    private static final Vector2 WINDOW_DIMENSIONS = new Vector2(700, 500);
+    static final float FRAME_DELTA = 1f / 60;
+    private static final int DEFAULT_NUM_BRICK_IN_ROW = 7;
+    private static final int DEFAULT_NUM_ROWS_OF_BRICKS = 8;
+    private static final long DEFAULT_MAX_FRAMES = 1_000_000;
+
+    private final BrickerGameManager gameManager;
+    private final HeadlessWindowController windowController;
+    private final HeadlessInputListener inputListener;
+    private long framesSimulated;
+    private long elapsedNanos;
+
+    /**
+     * Constructs a new HeadlessRunner instance and initializes its game.
+     *
+     * @param bricksInRow  The number of bricks in a row.
+     * @param rowsOfBricks The number of rows of bricks.
+     */
+    public HeadlessRunner(int bricksInRow, int rowsOfBricks) {
+        this(WINDOW_DIMENSIONS, bricksInRow, rowsOfBricks, new Random().nextLong());
+    }
+
+    /**
+     * Constructs a new HeadlessRunner instance and initializes its game from a seed, so the same arguments
+     * always build the same game.
+     *
+     * @param windowDimensions The dimensions of the simulated window.
+     * @param bricksInRow      The number of bricks in a row.
+     * @param rowsOfBricks     The number of rows of bricks.
+     * @param seed             The seed of all randomness in the game.
+     */
+    public HeadlessRunner(Vector2 windowDimensions, int bricksInRow, int rowsOfBricks, long seed) {
+        this(windowDimensions, bricksInRow, rowsOfBricks, seed, null);
+    }
+
+    /**
+     * Constructs a new HeadlessRunner instance and initializes its game from a seed, with bricks whose
+     * collision strategies are chosen according to the given weights.
+     *
+     * @param windowDimensions The dimensions of the simulated window.
+     * @param bricksInRow      The number of bricks in a row.
+     * @param rowsOfBricks     The number of rows of bricks.
+     * @param seed             The seed of all randomness in the game.
+     * @param strategyWeights  The relative weight of every strategy type, or null for the game's defaults.
+     */
+    public HeadlessRunner(Vector2 windowDimensions, int bricksInRow, int rowsOfBricks, long seed,
+                          double[] strategyWeights) {
+        this(windowDimensions, new BrickerGameManager("headless", windowDimensions, bricksInRow, rowsOfBricks,
+                seed), strategyWeights);
+    }
+
+    /**
+     * Constructs a new HeadlessRunner instance and initializes its game on a level, with the level's seed.
+     *
+     * @param windowDimensions The dimensions of the simulated window.
+     * @param level            The level to play.
+     */
+    public HeadlessRunner(Vector2 windowDimensions, Level level) {
+        this(windowDimensions, new BrickerGameManager("headless", windowDimensions, level), null);
+    }
+
+    private HeadlessRunner(Vector2 windowDimensions, BrickerGameManager gameManager, double[] strategyWeights) {
+        this.gameManager = gameManager;
+        if (strategyWeights != null) {
+            this.gameManager.setStrategyWeights(strategyWeights);
+        }
+        this.windowController = new HeadlessWindowController(windowDimensions);
+        this.inputListener = new HeadlessInputListener();
+        this.gameManager.initializeGame(new HeadlessImageReader(this.windowController),
+                new HeadlessSoundReader(this.windowController), this.inputListener, this.windowController);
+    }
+
+    /**
+     * Steps the game until it ends or until the given number of frames was simulated.
+     *
+     * @param maxFrames The maximum number of frames to simulate.
+     */
+    public void run(long maxFrames) {
+        long start = System.nanoTime();
+        while (!this.windowController.isClosed() && this.framesSimulated < maxFrames) {
+            this.gameManager.update(FRAME_DELTA);
+            this.framesSimulated++;
+        }
+        this.elapsedNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Steps the game by a single frame of the given length, unless it has ended.
+     *
+     * @param deltaTime The time of the frame, in seconds.
+     */
+    public void step(float deltaTime) {
+        if (this.windowController.isClosed()) {
+            return;
+        }
+        long start = System.nanoTime();
+        this.gameManager.update(deltaTime);
+        this.framesSimulated++;
+        this.elapsedNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Returns the game being simulated.
+     *
+     * @return The game manager.
+     */
+    public BrickerGameManager getGameManager() {
+        return this.gameManager;
+    }
+
+    /**
+     * Returns the input listener that drives the game's paddles.
+     *
+     * @return The input listener.
+     */
+    public HeadlessInputListener getInputListener() {
+        return this.inputListener;
+    }
+
+    /**
+     * Returns whether the game has ended.
+     *
+     * @return True if the game ended.
+     */
+    public boolean isGameOver() {
+        return this.windowController.isClosed();
+    }
+
+    /**
+     * Returns whether the game ended in a win.
+     *
+     * @return True if the game was won.
+     */
+    public boolean isWin() {
+        String prompt = this.windowController.getLastPrompt();
+        return prompt != null && prompt.startsWith("You've won");
+    }
+
+    /**
+     * Returns the number of frames simulated so far.
+     *
+     * @return The number of frames simulated.
+     */
+    public long getFramesSimulated() {
+        return this.framesSimulated;
+    }
+
+    /**
+     * Returns the simulation throughput.
+     *
+     * @return The number of frames simulated per wall-clock second.
+     */
+    public double getFramesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.framesSimulated * 1e9 / this.elapsedNanos;
+    }
+
+    /**
+     * Returns a one-line summary of the simulation.
+     *
+     * @return The summary.
+     */
+    public String report() {
+        String outcome = !isGameOver() ? "unfinished" : isWin() ? "win" : "loss";
+        return String.format("frames=%d fps=%.0f outcome=%s strikes=%d bricksLeft=%d liveBalls=%d",
+                this.framesSimulated, getFramesPerSecond(), outcome,
+                this.gameManager.getStrikesLeft(), this.gameManager.getBricksLeft(),
+                this.gameManager.getLiveBallCount());
+    }
+
+    /**
+     * The entry point of the headless simulation.
+     *
+     * @param args Command-line arguments: the number of bricks in a row, the number of rows of bricks
+     *             and the maximum number of frames to simulate. All are optional.
+     *             The system property bricker.spectate names the loopback port or the Unix domain socket
+     *             path to stream the game to spectators on.
+     */
+    public static void main(String[] args) {
+        int bricksInRow = DEFAULT_NUM_BRICK_IN_ROW;
+        int rowsOfBricks = DEFAULT_NUM_ROWS_OF_BRICKS;
+        long maxFrames = DEFAULT_MAX_FRAMES;
+        if (args.length >= 2) {
+            bricksInRow = Integer.parseInt(args[0]);
+            rowsOfBricks = Integer.parseInt(args[1]);
+        }
+        if (args.length >= 3) {
+            maxFrames = Long.parseLong(args[2]);
+        }
+        HeadlessRunner runner = new HeadlessRunner(bricksInRow, rowsOfBricks);
+        String spectateAddress = System.getProperty("bricker.spectate");
+        if (spectateAddress != null) {
+            try {
+                runner.getGameManager().startSpectatorServer(SpectatorServer.parseAddress(spectateAddress));
+            } catch (IOException e) {
+                System.err.println("The game is not streamed to spectators: " + e.getMessage());
+            }
+        }
+        try {
+            runner.getGameManager().getFrameStats().register("headless");
+        } catch (JMException e) {
+            System.err.println("Frame statistics are not published over JMX: " + e.getMessage());
+        }
+        runner.run(maxFrames);
+        System.out.println(runner.report());
+        for (PhaseLatency phase : runner.getGameManager().getFrameStats().getPhases()) {
+            System.out.println(phase);
+        }
+        System.out.println(BrickerGameManager.getAssetCache());
+    }
+}
@@ -0,0 +1,32 @@
+package bricker.simulation;
+
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.WindowController;
+
+/**
+ * A sound reader that never touches the disk or the audio device.
+ * Every request is answered with null, which game objects treat as "no sound".
+ */
+public class HeadlessSoundReader extends SoundReader {
+
+    /**
+     * Constructs a new HeadlessSoundReader instance.
+     *
+     * @param windowController The window controller the reader is bound to.
+     */
+    public HeadlessSoundReader(WindowController windowController) {
+        super(windowController);
+    }
+
+    /**
+     * Returns no sound, regardless of the requested path.
+     *
+     * @param soundFilePath The path of the requested sound (ignored).
+     * @return Always null.
+     */
+    @Override
+    public Sound readSound(String soundFilePath) {
+        return null;
+    }
+}
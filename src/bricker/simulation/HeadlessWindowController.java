@@ -0,0 +1,80 @@
+package bricker.simulation;
+
+import danogl.gui.WindowController;
+import danogl.util.Vector2;
+
+/**
+ * A window controller with no window behind it.
+ * Dialogs are answered "no" and their prompts are recorded, so the end of a game can be read back.
+ */
+public class HeadlessWindowController implements WindowController {
+    private final Vector2 windowDimensions;
+    private int targetFramerate;
+    private boolean closed;
+    private String lastPrompt;
+
+    /**
+     * Constructs a new HeadlessWindowController instance.
+     *
+     * @param windowDimensions The dimensions of the simulated window.
+     */
+    public HeadlessWindowController(Vector2 windowDimensions) {
+        this.windowDimensions = windowDimensions;
+    }
+
+    /**
+     * Returns whether the game asked to close the window.
+     *
+     * @return True if the window was closed.
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Returns the first prompt the game showed when it ended, or null if it has not ended.
+     *
+     * @return The end-of-game prompt.
+     */
+    public String getLastPrompt() {
+        return this.lastPrompt;
+    }
+
+    @Override
+    public boolean openYesNoDialog(String msg) {
+        if (this.lastPrompt == null) {
+            this.lastPrompt = msg;
+        }
+        return false;
+    }
+
+    @Override
+    public void closeWindow() {
+        this.closed = true;
+    }
+
+    @Override
+    public void resetGame() {
+        this.closed = false;
+        this.lastPrompt = null;
+    }
+
+    @Override
+    public void showMessageBox(String msg) {
+    }
+
+    @Override
+    public void setTargetFramerate(int fps) {
+        this.targetFramerate = fps;
+    }
+
+    @Override
+    public int getTargetFramerate() {
+        return this.targetFramerate;
+    }
+
+    @Override
+    public Vector2 getWindowDimensions() {
+        return this.windowDimensions;
+    }
+}
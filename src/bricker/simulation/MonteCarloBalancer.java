@@ -0,0 +1,144 @@
+package bricker.simulation;
+
+import bricker.brick_strategies.StrategyType;
+import danogl.util.Vector2;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs many independent headless games in parallel to measure how the strategy weights affect the game.
+ * Every game owns its game manager, counters, object collection, random generator and bot, and games are
+ * split over a fork/join pool, so sessions share no mutable state; only their summaries are merged.
+ */
+public class MonteCarloBalancer {
+    private static final Vector2 WINDOW_DIMENSIONS = new Vector2(700, 500);
+    private static final int DEFAULT_NUM_BRICK_IN_ROW = 7;
+    private static final int DEFAULT_NUM_ROWS_OF_BRICKS = 8;
+    private static final int DEFAULT_GAMES = 1000;
+    private static final long DEFAULT_MAX_FRAMES = 60 * 60 * 10;
+    private static final int GAMES_PER_TASK = 4;
+
+    private final int bricksInRow;
+    private final int rowsOfBricks;
+    private final long maxFrames;
+    private final double[] strategyWeights;
+
+    /**
+     * Constructs a new MonteCarloBalancer instance.
+     *
+     * @param bricksInRow     The number of bricks in a row.
+     * @param rowsOfBricks    The number of rows of bricks.
+     * @param maxFrames       The number of frames after which an unfinished game is stopped.
+     * @param strategyWeights The relative weight of every strategy type, in {@link StrategyType} order.
+     */
+    public MonteCarloBalancer(int bricksInRow, int rowsOfBricks, long maxFrames, double[] strategyWeights) {
+        this.bricksInRow = bricksInRow;
+        this.rowsOfBricks = rowsOfBricks;
+        this.maxFrames = maxFrames;
+        this.strategyWeights = strategyWeights.clone();
+    }
+
+    /**
+     * Simulates the given number of games on the given pool.
+     * The result only depends on the arguments, not on the number of threads.
+     *
+     * @param pool     The pool to run the games on.
+     * @param games    The number of games to simulate.
+     * @param baseSeed The seed that the seed of every game is derived from.
+     * @return The aggregated results of all games.
+     */
+    public SimulationSummary simulate(ForkJoinPool pool, int games, long baseSeed) {
+        return pool.invoke(new GamesTask(0, games, baseSeed));
+    }
+
+    /**
+     * Plays a single game to its end, or until the frame limit.
+     *
+     * @param seed The seed of the game.
+     * @return The runner of the finished game.
+     */
+    private HeadlessRunner playGame(long seed) {
+        HeadlessRunner runner = new HeadlessRunner(WINDOW_DIMENSIONS, this.bricksInRow, this.rowsOfBricks, seed,
+                this.strategyWeights);
+        runner.getGameManager().setPaddleController(new TrajectoryBot(runner.getGameManager()));
+        while (!runner.isGameOver() && runner.getFramesSimulated() < this.maxFrames) {
+            runner.step(HeadlessRunner.FRAME_DELTA);
+        }
+        return runner;
+    }
+
+    /**
+     * Derives the seed of a game from the base seed, so neighbouring games get unrelated random streams.
+     *
+     * @param baseSeed  The base seed.
+     * @param gameIndex The index of the game.
+     * @return The seed of the game.
+     */
+    private static long gameSeed(long baseSeed, long gameIndex) {
+        long z = baseSeed + (gameIndex + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Simulates a range of games, splitting it in half until it is small enough to run directly.
+     */
+    @SuppressWarnings("serial")
+    private class GamesTask extends RecursiveTask<SimulationSummary> {
+        private final int from;
+        private final int to;
+        private final long baseSeed;
+
+        GamesTask(int from, int to, long baseSeed) {
+            this.from = from;
+            this.to = to;
+            this.baseSeed = baseSeed;
+        }
+
+        @Override
+        protected SimulationSummary compute() {
+            if (this.to - this.from <= GAMES_PER_TASK) {
+                SimulationSummary summary = new SimulationSummary();
+                for (int game = this.from; game < this.to; game++) {
+                    summary.add(playGame(gameSeed(this.baseSeed, game)));
+                }
+                return summary;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            GamesTask left = new GamesTask(this.from, middle, this.baseSeed);
+            left.fork();
+            SimulationSummary right = new GamesTask(middle, this.to, this.baseSeed).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * The entry point of the balancer.
+     *
+     * @param args Command-line arguments: the number of games, the number of threads and the six strategy
+     *             weights in {@link StrategyType} order. All are optional.
+     */
+    public static void main(String[] args) {
+        int games = args.length >= 1 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int threads = args.length >= 2 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        double[] weights = StrategyType.defaultWeights();
+        if (args.length >= 2 + weights.length) {
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = Double.parseDouble(args[2 + i]);
+            }
+        }
+        long baseSeed = Long.getLong("bricker.seed", 0);
+        MonteCarloBalancer balancer = new MonteCarloBalancer(DEFAULT_NUM_BRICK_IN_ROW, DEFAULT_NUM_ROWS_OF_BRICKS,
+                DEFAULT_MAX_FRAMES, weights);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        SimulationSummary summary = balancer.simulate(pool, games, baseSeed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+        System.out.println(summary);
+        System.out.printf("threads=%d seconds=%.2f games/s=%.1f frames/s=%.0f%n", threads, seconds,
+                summary.games() / seconds, summary.totalFrames() / seconds);
+    }
+}
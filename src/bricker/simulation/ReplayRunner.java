@@ -0,0 +1,51 @@
+package bricker.simulation;
+
+import bricker.replay.InputReplay;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Replays a recorded game headless, at full speed.
+ * The game is rebuilt from the recording's seed, and level if one was played, and fed the recorded frame times
+ * and keys, so it runs frame-identical to the recorded session and performance regressions can be bisected on
+ * the same scenario.
+ */
+public class ReplayRunner {
+
+    /**
+     * Replays a recording and returns the runner that played it.
+     *
+     * @param replay The recording to replay.
+     * @return The runner, after the last recorded frame or the end of the game.
+     * @throws IOException If the recording cannot be read.
+     */
+    public static HeadlessRunner replay(InputReplay replay) throws IOException {
+        HeadlessRunner runner = replay.level() != null
+                ? new HeadlessRunner(replay.windowDimensions(), replay.level())
+                : new HeadlessRunner(replay.windowDimensions(), replay.bricksInRow(), replay.rowsOfBricks(),
+                replay.seed());
+        while (!runner.isGameOver() && replay.nextFrame()) {
+            replay.applyKeys(runner.getInputListener());
+            runner.step(replay.deltaTime());
+        }
+        return runner;
+    }
+
+    /**
+     * The entry point of the replay.
+     *
+     * @param args Command-line arguments: the path of the recording to replay.
+     * @throws IOException If the recording cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <recording>");
+            return;
+        }
+        try (InputReplay replay = new InputReplay(Paths.get(args[0]))) {
+            HeadlessRunner runner = replay(replay);
+            System.out.printf("seed=%d %s%n", replay.seed(), runner.report());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package bricker.simulation;
+
+import bricker.brick_strategies.StrategyType;
+
+/**
+ * Aggregated results of a batch of simulated games.
+ * Every worker fills its own summary, and summaries are merged once the workers are done.
+ */
+public class SimulationSummary {
+    private final long[] triggerCounts = new long[StrategyType.values().length];
+    private long games;
+    private long wins;
+    private long unfinished;
+    private long totalFrames;
+    private long totalBricksLeft;
+
+    /**
+     * Adds the result of a single game to the summary.
+     *
+     * @param runner The runner of the game, after it ran.
+     */
+    public void add(HeadlessRunner runner) {
+        this.games++;
+        if (!runner.isGameOver()) {
+            this.unfinished++;
+        } else if (runner.isWin()) {
+            this.wins++;
+        }
+        this.totalFrames += runner.getFramesSimulated();
+        this.totalBricksLeft += runner.getGameManager().getBricksLeft();
+        for (StrategyType type : StrategyType.values()) {
+            this.triggerCounts[type.code()] += runner.getGameManager().getStrategyTriggerCount(type);
+        }
+    }
+
+    /**
+     * Adds the results of another summary to this one.
+     *
+     * @param other The summary to merge.
+     * @return This summary.
+     */
+    public SimulationSummary merge(SimulationSummary other) {
+        this.games += other.games;
+        this.wins += other.wins;
+        this.unfinished += other.unfinished;
+        this.totalFrames += other.totalFrames;
+        this.totalBricksLeft += other.totalBricksLeft;
+        for (int i = 0; i < this.triggerCounts.length; i++) {
+            this.triggerCounts[i] += other.triggerCounts[i];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of games in the summary.
+     *
+     * @return The number of games.
+     */
+    public long games() {
+        return this.games;
+    }
+
+    /**
+     * Returns the total number of frames simulated over all games.
+     *
+     * @return The number of frames.
+     */
+    public long totalFrames() {
+        return this.totalFrames;
+    }
+
+    /**
+     * Returns the fraction of games that were won.
+     *
+     * @return The win rate, between 0 and 1.
+     */
+    public double winRate() {
+        return this.games == 0 ? 0 : (double) this.wins / this.games;
+    }
+
+    /**
+     * Returns the average length of a game.
+     *
+     * @return The average number of frames per game.
+     */
+    public double averageFrames() {
+        return this.games == 0 ? 0 : (double) this.totalFrames / this.games;
+    }
+
+    /**
+     * Returns the average number of times bricks with the given type of strategy were hit in a game.
+     *
+     * @param type The strategy type.
+     * @return The average number of hits per game.
+     */
+    public double averageTriggers(StrategyType type) {
+        return this.games == 0 ? 0 : (double) this.triggerCounts[type.code()] / this.games;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format(
+                "games=%d winRate=%.3f unfinished=%d avgFrames=%.0f avgBricksLeft=%.1f",
+                this.games, winRate(), this.unfinished, averageFrames(),
+                this.games == 0 ? 0 : (double) this.totalBricksLeft / this.games));
+        for (StrategyType type : StrategyType.values()) {
+            builder.append(String.format(" %s=%.2f", type.name().toLowerCase(), averageTriggers(type)));
+        }
+        return builder.toString();
+    }
+}
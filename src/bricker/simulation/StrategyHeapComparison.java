@@ -0,0 +1,153 @@
+package bricker.simulation;
+
+import bricker.brick_strategies.*;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.BrickField;
+import bricker.main.CommandBuffer;
+import bricker.main.GameObjectRegistry;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+
+import java.util.Random;
+
+/**
+ * Compares the heap retained by a wall of bricks with a strategy object per brick against walls that share one
+ * flyweight strategy per type: brick objects with shared strategies, and the brick field the game uses.
+ * The strategies are never triggered, so their payload collaborators are left out.
+ */
+public class StrategyHeapComparison {
+    private static final int DEFAULT_WALL_SIZE = 500;
+    private static final Vector2 BRICK_SIZE = new Vector2(1, 1);
+
+    private final int columns;
+    private final int rows;
+    private final CommandBuffer commandBuffer;
+
+    /**
+     * Constructs a new StrategyHeapComparison instance.
+     *
+     * @param columns The number of bricks in a row.
+     * @param rows    The number of rows of bricks.
+     */
+    public StrategyHeapComparison(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        this.commandBuffer = new CommandBuffer(
+                new GameObjectRegistry(new HeadlessRunner(0, 0).getGameManager().gameObjects()));
+    }
+
+    /**
+     * Builds a wall of brick objects, each with a strategy object of its own, as the game used to.
+     *
+     * @param seed The seed of the strategy layout.
+     * @return The bricks.
+     */
+    public Brick[] buildPerBrickStrategies(long seed) {
+        Random random = new Random(seed);
+        double[] weights = StrategyType.defaultWeights();
+        Brick[] bricks = new Brick[this.columns * this.rows];
+        Counter bricksLeft = new Counter(0);
+        for (int i = 0; i < bricks.length; i++) {
+            bricks[i] = new Brick(Vector2.ZERO, BRICK_SIZE, null,
+                    createStrategy(StrategyType.choose(random, weights)), bricksLeft);
+        }
+        return bricks;
+    }
+
+    /**
+     * Builds a wall of brick objects that share one strategy object per type.
+     *
+     * @param seed The seed of the strategy layout.
+     * @return The bricks.
+     */
+    public Brick[] buildSharedStrategies(long seed) {
+        Random random = new Random(seed);
+        double[] weights = StrategyType.defaultWeights();
+        CollisionStrategies strategies = new CollisionStrategies(this::createStrategy);
+        Brick[] bricks = new Brick[this.columns * this.rows];
+        Counter bricksLeft = new Counter(0);
+        for (int i = 0; i < bricks.length; i++) {
+            bricks[i] = new Brick(Vector2.ZERO, BRICK_SIZE, null,
+                    strategies.get(StrategyType.choose(random, weights)), bricksLeft);
+        }
+        return bricks;
+    }
+
+    /**
+     * Builds a brick field that shares one strategy object per type, as the game does.
+     *
+     * @param seed The seed of the strategy layout.
+     * @return The brick field.
+     */
+    public BrickField buildBrickField(long seed) {
+        Random random = new Random(seed);
+        double[] weights = StrategyType.defaultWeights();
+        BrickField brickField = new BrickField(Vector2.ZERO, BRICK_SIZE, this.columns, this.rows, null,
+                new CollisionStrategies(this::createStrategy), new Counter(0));
+        for (int i = 0; i < this.rows; i++) {
+            for (int j = 0; j < this.columns; j++) {
+                brickField.add(i, j, StrategyType.choose(random, weights));
+            }
+        }
+        return brickField;
+    }
+
+    private CollisionStrategy createStrategy(StrategyType type) {
+        switch (type) {
+            case PUCKS:
+                return new NewPucksCollisionStrategy(this.commandBuffer, null);
+            case PERK_PADDLE:
+                return new PerkPuddleCollisionStrategy(this.commandBuffer, null, new Counter(0));
+            case CAMERA:
+                return new ChangeCameraCollisionStrategy(this.commandBuffer, new Counter(0), null);
+            case ADD_STRIKE:
+                return new AddStrikeCollisionStrategy(this.commandBuffer);
+            case DUAL:
+                return new DualBehaviorCollisionStrategy(this.commandBuffer);
+            default:
+                return new BasicCollisionStrategy(this.commandBuffer);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The entry point of the comparison.
+     *
+     * @param args Command-line arguments: the number of bricks in a row and the number of rows of bricks.
+     *             Both are optional and default to a 500x500 wall.
+     */
+    public static void main(String[] args) {
+        int columns = args.length >= 2 ? Integer.parseInt(args[0]) : DEFAULT_WALL_SIZE;
+        int rows = args.length >= 2 ? Integer.parseInt(args[1]) : DEFAULT_WALL_SIZE;
+        StrategyHeapComparison comparison = new StrategyHeapComparison(columns, rows);
+        int bricks = columns * rows;
+
+        long before = usedHeap();
+        Object wall = comparison.buildPerBrickStrategies(0);
+        long perBrick = usedHeap() - before;
+        System.out.printf("strategy per brick:      %,12d bytes (%.1f per brick)%n", perBrick,
+                (double) perBrick / bricks);
+        wall = null;
+
+        before = usedHeap();
+        wall = comparison.buildSharedStrategies(0);
+        long shared = usedHeap() - before;
+        System.out.printf("shared strategies:       %,12d bytes (%.1f per brick)%n", shared,
+                (double) shared / bricks);
+        wall = null;
+
+        before = usedHeap();
+        wall = comparison.buildBrickField(0);
+        long field = usedHeap() - before;
+        System.out.printf("brick field, flyweights: %,12d bytes (%.1f per brick)%n", field,
+                (double) field / bricks);
+        System.out.println(wall.getClass().getSimpleName() + " of " + columns + "x" + rows);
+    }
+}
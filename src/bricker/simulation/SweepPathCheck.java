@@ -0,0 +1,59 @@
+package bricker.simulation;
+
+import bricker.collisions.TrajectoryPredictor;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.BrickField;
+import bricker.main.BrickerGameManager;
+import danogl.util.Vector2;
+
+/**
+ * Checks that the swept collisions move a ball exactly as far as its speed allows in a step, even when it
+ * makes several contacts in that step.
+ * The ball is shot up and left, next to the wall of bricks, fast enough to bounce off the left wall and then
+ * off the bottom of the bricks within one physics step. Mirroring its end position back across both contact
+ * lines unfolds its path into a straight line, whose length must be its speed times the step.
+ */
+public class SweepPathCheck {
+    private static final Vector2 WINDOW_DIMENSIONS = new Vector2(700, 500);
+    private static final float STEP = 1f / 128;
+    private static final float TOLERANCE = 1e-3f;
+    private static final float OFFSET_FROM_WALL = 20; // Center to wall, beyond the radius
+    private static final float OFFSET_FROM_BRICKS = 40; // Center to bricks, beyond the radius
+    // Reaches the wall, then the bricks, within the step, and would end the step past the wall so it is swept
+    private static final float TRAVEL_PER_AXIS = 60;
+
+    /**
+     * The entry point of the check. Exits with status 1 if the path length is wrong.
+     *
+     * @param args Command-line arguments (unused).
+     */
+    public static void main(String[] args) {
+        HeadlessRunner runner = new HeadlessRunner(WINDOW_DIMENSIONS, 7, 8, 42);
+        BrickerGameManager gameManager = runner.getGameManager();
+        gameManager.setFixedTimestep(STEP, 1);
+        Ball ball = gameManager.getBall();
+        BrickField brickField = gameManager.getBrickField();
+        TrajectoryPredictor playfield = gameManager.getTrajectoryPredictor();
+        float radius = ball.getDimensions().x() / 2;
+        float wallLine = playfield.left() + radius;
+        float brickLine = brickField.getTopLeftCorner().y() + brickField.getDimensions().y() + radius;
+
+        Vector2 start = new Vector2(wallLine + OFFSET_FROM_WALL, brickLine + OFFSET_FROM_BRICKS);
+        Vector2 velocity = new Vector2(-TRAVEL_PER_AXIS, -TRAVEL_PER_AXIS).mult(1 / STEP);
+        ball.setCenter(start);
+        ball.setVelocity(velocity);
+        gameManager.update(STEP);
+
+        Vector2 end = ball.getCenter();
+        Vector2 unfolded = new Vector2(2 * wallLine - end.x(), 2 * brickLine - end.y());
+        float pathLength = unfolded.subtract(start).magnitude();
+        float expected = velocity.magnitude() * STEP;
+        System.out.printf("path=%.4f expected=%.4f end=(%.3f, %.3f)%n", pathLength, expected, end.x(), end.y());
+        if (Math.abs(pathLength - expected) > TOLERANCE || ball.getVelocity().x() <= 0
+                || ball.getVelocity().y() <= 0) {
+            System.out.println("FAILED: the ball didn't travel one step's worth along both bounces");
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+}
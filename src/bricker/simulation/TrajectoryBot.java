@@ -0,0 +1,46 @@
+package bricker.simulation;
+
+import bricker.collisions.TrajectoryPredictor;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.PaddleController;
+import bricker.gameobjects.UserPaddle;
+import bricker.main.BrickerGameManager;
+
+/**
+ * A bot that moves a paddle to where the main ball will come down to it, predicted from the ball's velocity
+ * and the walls, and follows the ball itself once it has passed the paddle.
+ * It reads the game state only, so a game it plays is as deterministic as the game itself.
+ */
+public class TrajectoryBot implements PaddleController {
+    private final BrickerGameManager gameManager;
+    private final TrajectoryPredictor predictor;
+
+    /**
+     * Constructs a new TrajectoryBot instance.
+     *
+     * @param gameManager The game the bot plays.
+     */
+    public TrajectoryBot(BrickerGameManager gameManager) {
+        this.gameManager = gameManager;
+        this.predictor = gameManager.getTrajectoryPredictor();
+    }
+
+    /**
+     * Returns the direction that brings the paddle's center to where the ball lands on it, slowing down to
+     * stop there instead of overshooting.
+     *
+     * @param paddle    The paddle being moved.
+     * @param deltaTime The time elapsed since the last frame, in seconds.
+     * @return The direction, as a fraction of the paddle's speed.
+     */
+    @Override
+    public float direction(UserPaddle paddle, float deltaTime) {
+        Ball ball = this.gameManager.getBall();
+        float radius = ball.getDimensions().x() / 2;
+        float landingY = paddle.getTopLeftCorner().y() - radius;
+        float target = this.predictor.landingX(ball.getCenter(), ball.getVelocity(), radius, landingY);
+        float offset = target - paddle.getCenter().x();
+        float reach = paddle.getMovementSpeed() * deltaTime;
+        return reach > 0 ? offset / reach : Math.signum(offset);
+    }
+}
@@ -0,0 +1,111 @@
+package bricker.snapshots;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encodes the difference between two states as the XOR of their ints: the two lengths, then alternating runs
+ * of unchanged ints and of changed ones, every count and changed int as a varint. The shorter state is treated
+ * as padded with zeros.
+ * Applying a delta to either of the two states gives the other one.
+ */
+public class DeltaEncoder {
+    private byte[] bytes = new byte[256];
+    private int length;
+
+    /**
+     * Encodes the delta from one state to another, replacing the previous delta.
+     *
+     * @param previous The state the delta starts from.
+     * @param current  The state the delta leads to.
+     */
+    public void encode(StateVector previous, StateVector current) {
+        this.length = 0;
+        int length = Math.max(previous.length(), current.length());
+        writeVarint(previous.length());
+        writeVarint(current.length());
+        int i = 0;
+        while (i < length) {
+            int runStart = i;
+            while (i < length && previous.getOrZero(i) == current.getOrZero(i)) {
+                i++;
+            }
+            writeVarint(i - runStart);
+            int changedStart = i;
+            while (i < length && previous.getOrZero(i) != current.getOrZero(i)) {
+                i++;
+            }
+            writeVarint(i - changedStart);
+            for (int j = changedStart; j < i; j++) {
+                writeVarint(previous.getOrZero(j) ^ current.getOrZero(j));
+            }
+        }
+    }
+
+    /**
+     * Returns the bytes of the delta. Only the first {@link #length()} bytes are valid.
+     *
+     * @return The encoded delta.
+     */
+    public byte[] bytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Returns the number of bytes of the delta.
+     *
+     * @return The length of the delta.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Applies a delta read from a buffer to the state it starts from, turning it into the state it leads to.
+     *
+     * @param delta The buffer positioned at the delta. It is left positioned after it.
+     * @param state The state the delta starts from.
+     * @throws IllegalArgumentException If the state isn't the length the delta starts from.
+     */
+    public static void apply(ByteBuffer delta, StateVector state) {
+        int previousLength = readVarint(delta);
+        int currentLength = readVarint(delta);
+        if (state.length() != previousLength) {
+            throw new IllegalArgumentException("A delta from a state of " + previousLength
+                    + " applied to a state of " + state.length());
+        }
+        int length = Math.max(previousLength, currentLength);
+        state.setLength(length);
+        int i = 0;
+        while (i < length) {
+            i += readVarint(delta);
+            int changed = readVarint(delta);
+            for (int j = 0; j < changed; j++) {
+                state.xor(i++, readVarint(delta));
+            }
+        }
+        state.setLength(currentLength);
+    }
+
+    private void writeVarint(int value) {
+        if (this.length + 5 > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, this.bytes.length * 2);
+        }
+        while ((value & ~0x7F) != 0) {
+            this.bytes[this.length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.bytes[this.length++] = (byte) value;
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package bricker.snapshots;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Keeps the states of the last frames of a game in a fixed amount of memory, to rewind to, save to disk or
+ * dump after a crash.
+ * Only the latest state is kept whole. Every frame is stored as its {@link DeltaEncoder} delta from the previous
+ * frame, so a frame where only the balls moved costs a few dozen bytes. Since XOR is its own inverse, the same
+ * record steps back from a frame to the one before it, and no key frames are needed: the oldest records are
+ * simply overwritten when the ring is full.
+ */
+public class SnapshotRing {
+    private static final int MAGIC = 0x42534E50; // "BSNP"
+    private static final int VERSION = 2;
+
+    private final byte[] buffer;
+    private final long[] frameStarts;
+    private final int wallColumns;
+    private final int wallRows;
+    private long head; // Absolute byte position of the oldest record
+    private long tail; // Absolute byte position after the newest record
+    private long firstFrame;
+    private int frameCount;
+    private final StateVector latest = new StateVector();
+    private final DeltaEncoder encoder = new DeltaEncoder();
+    private int readPosition;
+
+    /**
+     * Constructs a new, empty SnapshotRing instance for states that don't depend on a wall.
+     *
+     * @param maxFrames     The most frames kept.
+     * @param capacityBytes The size of the ring the frame records are kept in.
+     */
+    public SnapshotRing(int maxFrames, int capacityBytes) {
+        this(maxFrames, capacityBytes, 0, 0);
+    }
+
+    /**
+     * Constructs a new, empty SnapshotRing instance for the states of a game with a given wall. The wall's
+     * dimensions are saved with the frames, so a file can be checked against the game it is restored into.
+     *
+     * @param maxFrames     The most frames kept.
+     * @param capacityBytes The size of the ring the frame records are kept in.
+     * @param wallColumns   The number of bricks in a row of the wall.
+     * @param wallRows      The number of rows of bricks of the wall.
+     */
+    public SnapshotRing(int maxFrames, int capacityBytes, int wallColumns, int wallRows) {
+        if (maxFrames <= 0 || capacityBytes <= 0) {
+            throw new IllegalArgumentException("A snapshot ring needs room for at least one frame");
+        }
+        this.buffer = new byte[capacityBytes];
+        this.frameStarts = new long[maxFrames];
+        this.wallColumns = wallColumns;
+        this.wallRows = wallRows;
+    }
+
+    /**
+     * Returns the number of bricks in a row of the wall of the game the states come from.
+     *
+     * @return The number of columns, or 0 if the states don't depend on a wall.
+     */
+    public int wallColumns() {
+        return this.wallColumns;
+    }
+
+    /**
+     * Returns the number of rows of bricks of the wall of the game the states come from.
+     *
+     * @return The number of rows, or 0 if the states don't depend on a wall.
+     */
+    public int wallRows() {
+        return this.wallRows;
+    }
+
+    /**
+     * Records the state of a new frame, overwriting the oldest frames if the ring is full.
+     *
+     * @param state The state of the frame.
+     * @throws IllegalArgumentException If the frame's record alone doesn't fit in the ring.
+     */
+    public void capture(StateVector state) {
+        this.encoder.encode(this.latest, state);
+        int recordLength = this.encoder.length();
+        if (recordLength > this.buffer.length) {
+            throw new IllegalArgumentException("A frame of " + recordLength + " bytes doesn't fit in a ring of "
+                    + this.buffer.length);
+        }
+        while (this.frameCount > 0 && (this.frameCount == this.frameStarts.length
+                || this.tail - this.head + recordLength > this.buffer.length)) {
+            this.firstFrame++;
+            this.frameCount--;
+            this.head = this.frameCount > 0 ? this.frameStarts[slot(this.firstFrame)] : this.tail;
+        }
+        this.frameStarts[slot(this.firstFrame + this.frameCount)] = this.tail;
+        this.frameCount++;
+        int start = (int) (this.tail % this.buffer.length);
+        int firstPart = Math.min(recordLength, this.buffer.length - start);
+        System.arraycopy(this.encoder.bytes(), 0, this.buffer, start, firstPart);
+        System.arraycopy(this.encoder.bytes(), firstPart, this.buffer, 0, recordLength - firstPart);
+        this.tail += recordLength;
+        this.latest.copyFrom(state);
+    }
+
+    /**
+     * Forgets every frame, as when a new game starts.
+     */
+    public void clear() {
+        this.head = 0;
+        this.tail = 0;
+        this.firstFrame = 0;
+        this.frameCount = 0;
+        this.latest.clear();
+    }
+
+    /**
+     * Returns the number of frames held.
+     *
+     * @return The number of frames.
+     */
+    public int frameCount() {
+        return this.frameCount;
+    }
+
+    /**
+     * Returns how many frames back the ring can rewind: to the oldest frame held.
+     *
+     * @return The number of frames.
+     */
+    public int maxRewind() {
+        return Math.max(this.frameCount - 1, 0);
+    }
+
+    /**
+     * Returns the number of bytes the frame records take in the ring.
+     *
+     * @return The number of bytes used.
+     */
+    public long bytesUsed() {
+        return this.tail - this.head;
+    }
+
+    /**
+     * Rebuilds the state of an earlier frame, without changing the ring.
+     *
+     * @param frames How many frames back from the latest, 0 for the latest itself.
+     * @param out    The vector to write the state to.
+     * @throws IllegalArgumentException If the ring doesn't reach that far back.
+     */
+    public void rewind(int frames, StateVector out) {
+        if (frames < 0 || frames > maxRewind()) {
+            throw new IllegalArgumentException("Can't rewind " + frames + " frames, only " + maxRewind());
+        }
+        out.copyFrom(this.latest);
+        long newest = this.firstFrame + this.frameCount - 1;
+        for (long frame = newest; frame > newest - frames; frame--) {
+            undo(frame, out);
+        }
+    }
+
+    /**
+     * Drops the newest frames, so the frame before them becomes the latest and the game can carry on from it.
+     *
+     * @param frames The number of frames to drop.
+     * @throws IllegalArgumentException If the ring doesn't reach that far back.
+     */
+    public void discardNewest(int frames) {
+        rewind(frames, this.latest);
+        if (frames == 0) {
+            return;
+        }
+        this.frameCount -= frames;
+        long next = this.firstFrame + this.frameCount;
+        this.tail = this.frameStarts[slot(next)];
+    }
+
+    /**
+     * Writes the latest state and every frame record held to a file.
+     *
+     * @param path The file to write. An existing file is overwritten.
+     * @throws IOException If the file can't be written.
+     */
+    public void save(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(this.frameStarts.length);
+            out.writeInt(this.buffer.length);
+            out.writeInt(this.wallColumns);
+            out.writeInt(this.wallRows);
+            out.writeInt(this.latest.length());
+            for (int i = 0; i < this.latest.length(); i++) {
+                out.writeInt(this.latest.get(i));
+            }
+            out.writeInt(this.frameCount);
+            for (int i = 0; i < this.frameCount; i++) {
+                long frame = this.firstFrame + i;
+                long start = this.frameStarts[slot(frame)];
+                long end = i == this.frameCount - 1 ? this.tail : this.frameStarts[slot(frame + 1)];
+                out.writeInt((int) (end - start));
+                for (long position = start; position < end; position++) {
+                    out.writeByte(this.buffer[(int) (position % this.buffer.length)]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a ring written by {@link #save(Path)}.
+     *
+     * @param path The file to read.
+     * @return The ring, with the same frames, capacity and wall as when it was saved.
+     * @throws IOException If the file can't be read or isn't a snapshot file.
+     */
+    public static SnapshotRing load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not a snapshot file");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot file version " + version);
+            }
+            SnapshotRing ring = new SnapshotRing(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+            int length = in.readInt();
+            for (int i = 0; i < length; i++) {
+                ring.latest.add(in.readInt());
+            }
+            int frameCount = in.readInt();
+            if (frameCount > ring.frameStarts.length) {
+                throw new IOException(path + " holds more frames than its ring");
+            }
+            for (int i = 0; i < frameCount; i++) {
+                int recordLength = in.readInt();
+                if (ring.tail + recordLength > ring.buffer.length) {
+                    throw new IOException(path + " holds more bytes than its ring");
+                }
+                ring.frameStarts[i] = ring.tail;
+                in.readFully(ring.buffer, (int) ring.tail, recordLength);
+                ring.tail += recordLength;
+            }
+            ring.frameCount = frameCount;
+            return ring;
+        }
+    }
+
+    private int slot(long frame) {
+        return (int) (frame % this.frameStarts.length);
+    }
+
+    /**
+     * Steps a state back from a frame to the frame before it, by applying the frame's record again.
+     */
+    private void undo(long frame, StateVector state) {
+        this.readPosition = (int) (this.frameStarts[slot(frame)] % this.buffer.length);
+        int previousLength = readVarint();
+        int length = Math.max(previousLength, readVarint());
+        state.setLength(length);
+        int i = 0;
+        while (i < length) {
+            i += readVarint();
+            int changed = readVarint();
+            for (int j = 0; j < changed; j++) {
+                state.xor(i++, readVarint());
+            }
+        }
+        state.setLength(previousLength);
+    }
+
+    private int readVarint() {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = this.buffer[this.readPosition];
+            this.readPosition = (this.readPosition + 1) % this.buffer.length;
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package bricker.snapshots;
+
+import java.util.Arrays;
+
+/**
+ * The state of a game flattened into a growable array of ints, the form snapshots are taken and delta-encoded
+ * in. Floats are stored as their raw bits, so a restored state is bit-for-bit the captured one.
+ */
+public class StateVector {
+    private int[] values;
+    private int length;
+
+    /**
+     * Constructs a new, empty StateVector instance.
+     */
+    public StateVector() {
+        this.values = new int[64];
+    }
+
+    /**
+     * Empties the vector, keeping its room.
+     */
+    public void clear() {
+        this.length = 0;
+    }
+
+    /**
+     * Appends an int.
+     *
+     * @param value The value to append.
+     */
+    public void add(int value) {
+        if (this.length == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.length * 2);
+        }
+        this.values[this.length++] = value;
+    }
+
+    /**
+     * Appends a float, as its raw bits.
+     *
+     * @param value The value to append.
+     */
+    public void addFloat(float value) {
+        add(Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Returns the int at an index.
+     *
+     * @param index The index.
+     * @return The value.
+     */
+    public int get(int index) {
+        if (index >= this.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " of a state of " + this.length);
+        }
+        return this.values[index];
+    }
+
+    /**
+     * Returns the float at an index.
+     *
+     * @param index The index.
+     * @return The value.
+     */
+    public float getFloat(int index) {
+        return Float.intBitsToFloat(get(index));
+    }
+
+    /**
+     * Returns the number of ints in the vector.
+     *
+     * @return The length.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Makes this vector a copy of another.
+     *
+     * @param other The vector to copy.
+     */
+    public void copyFrom(StateVector other) {
+        setLength(other.length);
+        System.arraycopy(other.values, 0, this.values, 0, other.length);
+    }
+
+    /**
+     * Sets the length of the vector. Ints added by growing it are zero.
+     *
+     * @param length The new length.
+     */
+    void setLength(int length) {
+        if (length > this.values.length) {
+            this.values = Arrays.copyOf(this.values, Math.max(length, this.values.length * 2));
+        }
+        if (length > this.length) {
+            Arrays.fill(this.values, this.length, length, 0);
+        }
+        this.length = length;
+    }
+
+    /**
+     * Returns the int at an index, or zero past the end, as deltas treat the shorter of two states.
+     */
+    int getOrZero(int index) {
+        return index < this.length ? this.values[index] : 0;
+    }
+
+    /**
+     * Flips the bits of the int at an index.
+     */
+    void xor(int index, int bits) {
+        this.values[index] ^= bits;
+    }
+}
@@ -0,0 +1,198 @@
+package bricker.spectator;
+
+import bricker.metrics.LatencyHistogram;
+import bricker.snapshots.DeltaEncoder;
+import bricker.snapshots.StateVector;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * A headless spectator: follows the state of a game streamed by a {@link SpectatorServer}, and measures how
+ * late every frame arrives and how many frames the server dropped for it.
+ * Latency is measured from the moment the game published the frame to the moment its delta was applied here,
+ * by comparing {@link System#nanoTime()} across the two processes. That clock is monotonic and shared by every
+ * process on the same machine on the platforms the game runs on, which is why spectators are local only.
+ */
+public class SpectatorClient implements Closeable {
+    private static final double NANOS_PER_MICRO = 1e3;
+    private static final long REPORT_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final SocketChannel channel;
+    private final StateVector state = new StateVector();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+    private ByteBuffer frame = ByteBuffer.allocate(1024);
+    private long lastFrame;
+    private long framesReceived;
+    private long framesMissed;
+    private long bytesReceived;
+
+    /**
+     * Constructs a new SpectatorClient instance connected to a spectator server.
+     *
+     * @param address The loopback {@link java.net.InetSocketAddress} or the {@link UnixDomainSocketAddress}
+     *                the server listens on.
+     * @throws IOException If the server can't be connected to.
+     */
+    public SpectatorClient(SocketAddress address) throws IOException {
+        this.channel = address instanceof UnixDomainSocketAddress
+                ? SocketChannel.open(StandardProtocolFamily.UNIX)
+                : SocketChannel.open();
+        this.channel.connect(address);
+    }
+
+    /**
+     * Waits for the next frame and applies it to the followed state.
+     *
+     * @throws IOException If the connection fails, or the server closed it.
+     */
+    public void readFrame() throws IOException {
+        this.header.clear();
+        readFully(this.header);
+        int length = this.header.getInt(0);
+        if (length < SpectatorServer.FRAME_HEADER_BYTES) {
+            throw new IOException("A frame of " + length + " bytes");
+        }
+        if (this.frame.capacity() < length) {
+            this.frame = ByteBuffer.allocate(Math.max(length, this.frame.capacity() * 2));
+        }
+        this.frame.clear().limit(length);
+        readFully(this.frame);
+        this.frame.flip();
+        long frameNumber = this.frame.getLong();
+        long publishNanos = this.frame.getLong();
+        DeltaEncoder.apply(this.frame, this.state);
+        this.latency.record(System.nanoTime() - publishNanos);
+        if (this.framesReceived > 0) {
+            this.framesMissed += frameNumber - this.lastFrame - 1;
+        }
+        this.lastFrame = frameNumber;
+        this.framesReceived++;
+        this.bytesReceived += Integer.BYTES + length;
+    }
+
+    /**
+     * Returns the state of the game as of the last frame read.
+     *
+     * @return The state.
+     */
+    public StateVector getState() {
+        return this.state;
+    }
+
+    /**
+     * Returns the latencies of the frames read since the last reset.
+     *
+     * @return The latency histogram.
+     */
+    public LatencyHistogram getLatency() {
+        return this.latency;
+    }
+
+    /**
+     * Returns the number of frames read.
+     *
+     * @return The number of frames.
+     */
+    public long framesReceived() {
+        return this.framesReceived;
+    }
+
+    /**
+     * Returns the number of frames the game published in between the frames read, that the server dropped
+     * because this spectator was still reading.
+     *
+     * @return The number of frames missed.
+     */
+    public long framesMissed() {
+        return this.framesMissed;
+    }
+
+    /**
+     * Returns the number of bytes read, frame headers included.
+     *
+     * @return The number of bytes.
+     */
+    public long bytesReceived() {
+        return this.bytesReceived;
+    }
+
+    /**
+     * Disconnects from the server.
+     *
+     * @throws IOException If the connection can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (this.channel.read(buffer) < 0) {
+                throw new EOFException("The game stopped streaming");
+            }
+        }
+    }
+
+    /**
+     * The entry point of the headless spectator. Prints the frames received and missed, the latency and the
+     * bytes per frame every second.
+     *
+     * @param args Command-line arguments: the port or the socket path the game streams on, then optionally
+     *             the number of seconds to watch for and a delay, in milliseconds, to sleep after every frame
+     *             to act as a slow viewer.
+     * @throws IOException If the game can't be connected to.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SpectatorClient <port|socket path> [seconds] [delay millis]");
+            return;
+        }
+        SocketAddress address = SpectatorServer.parseAddress(args[0]);
+        long seconds = args.length >= 2 ? Long.parseLong(args[1]) : Long.MAX_VALUE;
+        long delayMillis = args.length >= 3 ? Long.parseLong(args[2]) : 0;
+        try (SpectatorClient client = new SpectatorClient(address)) {
+            long start = System.nanoTime();
+            long nextReport = start + REPORT_INTERVAL_NANOS;
+            long reportFrames = 0;
+            long reportMissed = 0;
+            long reportBytes = 0;
+            for (long reports = 0; reports < seconds; ) {
+                client.readFrame();
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                long now = System.nanoTime();
+                if (now < nextReport) {
+                    continue;
+                }
+                long frames = client.framesReceived() - reportFrames;
+                LatencyHistogram latency = client.getLatency();
+                System.out.printf("frames=%d missed=%d p50=%.1fus p99=%.1fus max=%.1fus bytes/frame=%.1f%n",
+                        frames, client.framesMissed() - reportMissed,
+                        latency.valueAtQuantile(0.5) / NANOS_PER_MICRO,
+                        latency.valueAtQuantile(0.99) / NANOS_PER_MICRO,
+                        latency.max() / NANOS_PER_MICRO,
+                        (double) (client.bytesReceived() - reportBytes) / Math.max(frames, 1));
+                latency.reset();
+                reportFrames = client.framesReceived();
+                reportMissed = client.framesMissed();
+                reportBytes = client.bytesReceived();
+                nextReport = now + REPORT_INTERVAL_NANOS;
+                reports++;
+            }
+        } catch (EOFException e) {
+            System.out.println(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package bricker.spectator;
+
+import bricker.snapshots.DeltaEncoder;
+import bricker.snapshots.StateVector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams the state of a game to any number of spectators on the same machine, over loopback TCP or a Unix
+ * domain socket, without ever making the game thread wait on the network.
+ * The game thread only copies each frame's state into a hand-over slot. A selector thread takes the newest
+ * state and sends it to every spectator as a {@link DeltaEncoder} delta from the last state that spectator
+ * was sent. A spectator that hasn't finished reading its previous frame is skipped, so a slow viewer drops
+ * frames instead of buffering them, and its next frame is still a delta from what it actually has.
+ * Every frame is sent as its length, the frame number, the {@link System#nanoTime()} it was published at, and
+ * the delta, so a spectator on the same machine can measure its latency.
+ */
+public class SpectatorServer implements Closeable {
+    static final int FRAME_HEADER_BYTES = Long.BYTES * 2;
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final Path socketPath;
+    private final Thread thread;
+    private final DeltaEncoder encoder = new DeltaEncoder();
+    private final List<Spectator> spectators = new ArrayList<>();
+    private final Object handOver = new Object();
+    private StateVector published = new StateVector(); // Guarded by handOver
+    private long publishedFrame; // Guarded by handOver
+    private long publishedNanos; // Guarded by handOver
+    private StateVector sending = new StateVector();
+    private long sentFrame;
+    private volatile boolean running = true;
+    private volatile long framesSent; // Written by the server thread only
+    private volatile long framesDropped;
+
+    /**
+     * Constructs a new SpectatorServer instance listening on the given address, and starts its thread.
+     *
+     * @param address A loopback {@link InetSocketAddress}, or a {@link UnixDomainSocketAddress}.
+     * @throws IOException If the address can't be listened on.
+     */
+    public SpectatorServer(SocketAddress address) throws IOException {
+        if (address instanceof UnixDomainSocketAddress) {
+            this.socketPath = ((UnixDomainSocketAddress) address).getPath();
+            Files.deleteIfExists(this.socketPath); // Left behind by a previous game
+            this.serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else {
+            this.socketPath = null;
+            this.serverChannel = ServerSocketChannel.open();
+        }
+        this.serverChannel.bind(address);
+        this.serverChannel.configureBlocking(false);
+        this.selector = Selector.open();
+        this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::serve, "bricker-spectator");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Parses the address a spectator server listens on or a spectator connects to: a port number for loopback
+     * TCP, or the path of a Unix domain socket.
+     *
+     * @param address The port or the path.
+     * @return The socket address.
+     */
+    public static SocketAddress parseAddress(String address) {
+        try {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+        } catch (NumberFormatException e) {
+            return UnixDomainSocketAddress.of(address);
+        }
+    }
+
+    /**
+     * Hands the state of a frame over to the server thread. Never blocks on the network; if the server thread
+     * hasn't taken the previous state yet, it is replaced.
+     *
+     * @param state The state of the frame.
+     */
+    public void publish(StateVector state) {
+        synchronized (this.handOver) {
+            this.published.copyFrom(state);
+            this.publishedFrame++;
+            this.publishedNanos = System.nanoTime();
+        }
+        this.selector.wakeup();
+    }
+
+    /**
+     * Returns the address the server listens on, with the actual port if it was bound to port 0.
+     *
+     * @return The local address.
+     * @throws IOException If the address can't be read.
+     */
+    public SocketAddress getLocalAddress() throws IOException {
+        return this.serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Returns how many frames were sent, over all spectators.
+     *
+     * @return The number of frames sent.
+     */
+    public long framesSent() {
+        return this.framesSent;
+    }
+
+    /**
+     * Returns how many frames were skipped for spectators still reading an earlier frame, over all spectators.
+     *
+     * @return The number of frames dropped.
+     */
+    public long framesDropped() {
+        return this.framesDropped;
+    }
+
+    /**
+     * Stops the server thread and disconnects every spectator.
+     *
+     * @throws IOException If the server socket can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.running = false;
+        this.selector.wakeup();
+        try {
+            this.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.selector.close();
+        this.serverChannel.close();
+        if (this.socketPath != null) {
+            Files.deleteIfExists(this.socketPath);
+        }
+    }
+
+    private void serve() {
+        try {
+            while (this.running) {
+                this.selector.select();
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else if (key.isWritable()) {
+                        Spectator spectator = (Spectator) key.attachment();
+                        if (!flush(spectator)) {
+                            this.spectators.remove(spectator);
+                        }
+                    }
+                }
+                sendNewFrame();
+            }
+        } catch (IOException e) {
+            System.err.println("Spectator server stopped: " + e.getMessage());
+        } finally {
+            for (Spectator spectator : this.spectators) {
+                closeQuietly(spectator.channel);
+            }
+            this.spectators.clear();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = this.serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        Spectator spectator = new Spectator(channel);
+        spectator.key = channel.register(this.selector, 0, spectator);
+        this.spectators.add(spectator);
+    }
+
+    /**
+     * Takes the newest published state, if it wasn't sent yet, and sends it to every spectator ready for it.
+     */
+    private void sendNewFrame() {
+        long frameNanos;
+        synchronized (this.handOver) {
+            if (this.publishedFrame == this.sentFrame) {
+                return;
+            }
+            StateVector swap = this.sending;
+            this.sending = this.published;
+            this.published = swap;
+            this.sentFrame = this.publishedFrame;
+            frameNanos = this.publishedNanos;
+        }
+        Iterator<Spectator> iterator = this.spectators.iterator();
+        while (iterator.hasNext()) {
+            Spectator spectator = iterator.next();
+            if (spectator.out.hasRemaining()) {
+                this.framesDropped++;
+                continue;
+            }
+            this.encoder.encode(spectator.lastSent, this.sending);
+            spectator.queue(this.sentFrame, frameNanos, this.encoder);
+            spectator.lastSent.copyFrom(this.sending);
+            this.framesSent++;
+            if (!flush(spectator)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Writes as much of a spectator's pending frame as the socket takes, and waits for the socket to become
+     * writable if it didn't take all of it.
+     *
+     * @return False if the spectator disconnected, and was closed.
+     */
+    private boolean flush(Spectator spectator) {
+        try {
+            spectator.channel.write(spectator.out);
+            spectator.key.interestOps(spectator.out.hasRemaining() ? SelectionKey.OP_WRITE : 0);
+            return true;
+        } catch (IOException e) {
+            spectator.key.cancel();
+            closeQuietly(spectator.channel);
+            return false;
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Already gone
+        }
+    }
+
+    /**
+     * A connected spectator: its socket, the frame being written to it, and the state it was last sent.
+     */
+    private static class Spectator {
+        private final SocketChannel channel;
+        private final StateVector lastSent = new StateVector();
+        private SelectionKey key;
+        private ByteBuffer out = ByteBuffer.allocate(0);
+
+        private Spectator(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void queue(long frame, long frameNanos, DeltaEncoder delta) {
+            int length = FRAME_HEADER_BYTES + delta.length();
+            if (this.out.capacity() < Integer.BYTES + length) {
+                this.out = ByteBuffer.allocateDirect(Math.max(Integer.BYTES + length, this.out.capacity() * 2));
+            }
+            this.out.clear();
+            this.out.putInt(length);
+            this.out.putLong(frame);
+            this.out.putLong(frameNanos);
+            this.out.put(delta.bytes(), 0, delta.length());
+            this.out.flip();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package bricker.util;
+
+/**
+ * Receives the changes of an {@link ObservableCounter}.
+ */
+public interface CounterListener {
+    /**
+     * Called after the counter's value changed.
+     *
+     * @param oldValue The value before the change.
+     * @param newValue The value after the change.
+     */
+    public void onChange(int oldValue, int newValue);
+}
@@ -0,0 +1,79 @@
+package bricker.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of reusable objects.
+ * Objects are created on demand by a factory, prepared by a reset action every time they are handed out,
+ * and kept for reuse when they are released, up to the pool's capacity.
+ *
+ * @param <T> The type of pooled objects.
+ */
+public class ObjectPool<T> {
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final int capacity;
+    private final Deque<T> idle;
+    private int created;
+
+    /**
+     * Constructs a new, empty ObjectPool instance.
+     *
+     * @param factory  Creates a new object when no idle one is available.
+     * @param reset    Prepares an object every time it is handed out.
+     * @param capacity The maximum number of idle objects kept for reuse.
+     */
+    public ObjectPool(Supplier<T> factory, Consumer<T> reset, int capacity) {
+        this.factory = factory;
+        this.reset = reset;
+        this.capacity = capacity;
+        this.idle = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Hands out an idle object, or a new one if the pool is empty.
+     *
+     * @return A reset object.
+     */
+    public T acquire() {
+        T object = this.idle.poll();
+        if (object == null) {
+            object = this.factory.get();
+            this.created++;
+        }
+        this.reset.accept(object);
+        return object;
+    }
+
+    /**
+     * Returns an object to the pool. The object is dropped if the pool is already full.
+     *
+     * @param object The object to return.
+     */
+    public void release(T object) {
+        if (this.idle.size() < this.capacity) {
+            this.idle.push(object);
+        }
+    }
+
+    /**
+     * Returns the number of objects waiting for reuse.
+     *
+     * @return The number of idle objects.
+     */
+    public int idleCount() {
+        return this.idle.size();
+    }
+
+    /**
+     * Returns the number of objects the factory created so far.
+     *
+     * @return The number of created objects.
+     */
+    public int createdCount() {
+        return this.created;
+    }
+}
@@ -0,0 +1,71 @@
+package bricker.util;
+
+import danogl.util.Counter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A counter that publishes every change of its value to its subscribers.
+ * It can be handed to anything expecting a plain Counter, while the objects that display or react to the
+ * value subscribe to it instead of polling it every frame.
+ */
+public class ObservableCounter extends Counter {
+    private final List<CounterListener> listeners = new ArrayList<>();
+
+    /**
+     * Constructs a new ObservableCounter instance.
+     *
+     * @param initialValue The initial value of the counter.
+     */
+    public ObservableCounter(int initialValue) {
+        super(initialValue);
+    }
+
+    /**
+     * Subscribes a listener to the changes of the counter.
+     *
+     * @param listener The listener to notify on every change.
+     */
+    public void subscribe(CounterListener listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void increment() {
+        int oldValue = value();
+        super.increment();
+        publish(oldValue);
+    }
+
+    @Override
+    public void decrement() {
+        int oldValue = value();
+        super.decrement();
+        publish(oldValue);
+    }
+
+    @Override
+    public void increaseBy(int val) {
+        int oldValue = value();
+        super.increaseBy(val);
+        publish(oldValue);
+    }
+
+    @Override
+    public void reset() {
+        int oldValue = value();
+        super.reset();
+        publish(oldValue);
+    }
+
+    private void publish(int oldValue) {
+        int newValue = value();
+        if (newValue == oldValue) {
+            return;
+        }
+        for (CounterListener listener : this.listeners) {
+            listener.onChange(oldValue, newValue);
+        }
+    }
+}